@@ -0,0 +1,44 @@
+package jflunt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jflunt.validations.text.CharSequences;
+import jflunt.validations.text.Whitespace;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlankCheckBenchmark {
+
+    @Param({ "carlos", "  carlos  ", "                                carlos                                " })
+    public String value;
+
+    @Benchmark
+    public boolean trim() {
+        return this.value.trim().length() == 0;
+    }
+
+    @Benchmark
+    public boolean scan() {
+        return CharSequences.isBlank(this.value);
+    }
+
+    @Benchmark
+    public boolean scanUnicode() {
+        return CharSequences.isBlank(this.value, Whitespace.UNICODE);
+    }
+}
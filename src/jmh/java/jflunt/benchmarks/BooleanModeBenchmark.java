@@ -0,0 +1,44 @@
+package jflunt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jflunt.rules.RuleSet;
+import jflunt.validations.text.CharSequences;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BooleanModeBenchmark {
+
+    @Param({ "12345", "12a45" })
+    public String value;
+
+    private final RuleSet<String> rules = new RuleSet<String>()
+        .rule("notBlank", "value", "Value is empty", val -> !CharSequences.isBlank(val))
+        .rule("digits", "value", "Value is not numeric", CharSequences::isDigits)
+        .rule("length", "value", "Value is too long", val -> val.length() <= 10);
+
+    @Benchmark
+    public boolean validate() {
+        return this.rules.validate(this.value).isValid();
+    }
+
+    @Benchmark
+    public boolean isSatisfiedBy() {
+        return this.rules.isSatisfiedBy(this.value);
+    }
+}
@@ -0,0 +1,115 @@
+package jflunt.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jflunt.notifications.Notification;
+import jflunt.notifications.NotificationCodec;
+import jflunt.notifications.PropertyPath;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationCodecBenchmark {
+
+    private static final TypeReference<List<Map<String, String>>> JSON_TYPE = new TypeReference<List<Map<String, String>>>() {
+    };
+
+    @Param({ "10", "1000" })
+    public int size;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private List<Notification> notifications;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws Exception {
+        PropertyPath lines = PropertyPath.of("order.lines");
+        this.notifications = new ArrayList<Notification>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            PropertyPath line = lines.index(i);
+            this.notifications.add(i % 2 == 0
+                ? new Notification(line.child("price"), "Price must be between 0 and 10000")
+                : new Notification(line.child("quantity"), "Quantity must be greater than zero"));
+        }
+        this.binary = NotificationCodec.encode(this.notifications);
+        this.json = toJson();
+
+        System.out.printf("%n%d notifications: binary %d bytes, json %d bytes%n",
+            this.size, this.binary.length, this.json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return NotificationCodec.encode(this.notifications);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws Exception {
+        return toJson();
+    }
+
+    @Benchmark
+    public int roundTripBinary() {
+        int length = 0;
+        for (Notification notification : NotificationCodec.decode(NotificationCodec.encode(this.notifications))) {
+            length += notification.getProperty().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int roundTripJson() throws Exception {
+        int length = 0;
+        for (Map<String, String> entry : this.mapper.<List<Map<String, String>>> readValue(toJson(), JSON_TYPE)) {
+            length += new Notification(entry.get("property"), entry.get("message")).getProperty().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public String decodeBinaryMessage() {
+        return NotificationCodec.decode(this.binary).getMessage(this.size - 1);
+    }
+
+    @Benchmark
+    public String decodeJsonMessage() throws Exception {
+        List<Map<String, String>> entries = this.mapper.readValue(this.json, JSON_TYPE);
+        return entries.get(this.size - 1).get("message");
+    }
+
+    private byte[] toJson() throws Exception {
+        List<Map<String, String>> entries = new ArrayList<Map<String, String>>(this.notifications.size());
+        for (Notification notification : this.notifications) {
+            Map<String, String> entry = new LinkedHashMap<String, String>(4);
+            entry.put("property", notification.getProperty());
+            entry.put("message", notification.getMessage());
+            entries.add(entry);
+        }
+        return this.mapper.writeValueAsString(entries).getBytes(StandardCharsets.UTF_8);
+    }
+}
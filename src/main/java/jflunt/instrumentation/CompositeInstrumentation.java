@@ -0,0 +1,17 @@
+package jflunt.instrumentation;
+
+class CompositeInstrumentation implements ValidationInstrumentation {
+
+    private final ValidationInstrumentation[] instrumentations;
+
+    CompositeInstrumentation(ValidationInstrumentation[] instrumentations) {
+        this.instrumentations = instrumentations;
+    }
+
+    @Override
+    public void onEvaluation(String property, String rule, boolean passed, long nanos) {
+        for (ValidationInstrumentation instrumentation : this.instrumentations) {
+            instrumentation.onEvaluation(property, rule, passed, nanos);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package jflunt.instrumentation;
+
+import java.time.Duration;
+
+public final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+    }
+
+    public static boolean isAvailable() {
+        return false;
+    }
+
+    public static void setRuleEvaluationThreshold(Duration threshold) {
+    }
+
+    public static void setLargeMergeThreshold(int notifications) {
+    }
+
+    public static void validationFailed(String property, String rule) {
+    }
+
+    public static void slowValidation(String property, String rule, long nanos) {
+    }
+
+    public static boolean isContractCreationEnabled() {
+        return false;
+    }
+
+    public static void contractCreated() {
+    }
+
+    public static boolean isRuleEvaluationEnabled() {
+        return false;
+    }
+
+    public static void ruleEvaluated(String property, String rule, boolean passed, long nanos) {
+    }
+
+    public static boolean isContractJoinEnabled() {
+        return false;
+    }
+
+    public static void contractJoined(String property, int items, int notifications) {
+    }
+
+    public static boolean isNotificationMergeEnabled() {
+        return false;
+    }
+
+    public static void notificationsMerged(String property, int notifications) {
+    }
+}
@@ -0,0 +1,21 @@
+package jflunt.instrumentation;
+
+import java.time.Duration;
+
+public class FlightRecorderInstrumentation implements ValidationInstrumentation {
+
+    private final long slowThresholdNanos;
+
+    public FlightRecorderInstrumentation(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void onEvaluation(String property, String rule, boolean passed, long nanos) {
+        if (!passed)
+            FlightRecorderEvents.validationFailed(property, rule);
+
+        if (nanos >= this.slowThresholdNanos)
+            FlightRecorderEvents.slowValidation(property, rule, nanos);
+    }
+}
@@ -0,0 +1,37 @@
+package jflunt.instrumentation;
+
+public final class Instrumentation {
+
+    private static final ValidationInstrumentation FLIGHT_RECORDER = FlightRecorderEvents::ruleEvaluated;
+
+    private static volatile ValidationInstrumentation current;
+    private static volatile ValidationInstrumentation traced = FLIGHT_RECORDER;
+
+    private Instrumentation() {
+    }
+
+    public static ValidationInstrumentation current() {
+        return FlightRecorderEvents.isRuleEvaluationEnabled() ? traced : current;
+    }
+
+    public static boolean isEnabled() {
+        return current() != null;
+    }
+
+    public static synchronized void install(ValidationInstrumentation... instrumentations) {
+        if (instrumentations == null || instrumentations.length == 0)
+            throw new IllegalArgumentException("At least one instrumentation must be informed");
+
+        ValidationInstrumentation installed = instrumentations.length == 1
+            ? instrumentations[0]
+            : new CompositeInstrumentation(instrumentations.clone());
+
+        current = installed;
+        traced = new CompositeInstrumentation(new ValidationInstrumentation[] { installed, FLIGHT_RECORDER });
+    }
+
+    public static synchronized void uninstall() {
+        current = null;
+        traced = FLIGHT_RECORDER;
+    }
+}
@@ -0,0 +1,53 @@
+package jflunt.instrumentation;
+
+public class LatencySnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    LatencySnapshot(long[] counts, long total, long max) {
+        long count = 0;
+        for (long bucket : counts) {
+            count += bucket;
+        }
+        this.counts = counts;
+        this.count = count;
+        this.total = total;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public long getTotalNanos() {
+        return this.total;
+    }
+
+    public long getMaxNanos() {
+        return this.max;
+    }
+
+    public double getMeanNanos() {
+        return this.count == 0 ? 0 : (double) this.total / this.count;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+
+        if (this.count == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(this.count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < this.counts.length; i++) {
+            seen += this.counts[i];
+            if (seen >= target)
+                return Math.min(LatencyHistogram.highestValueOf(i), this.max);
+        }
+        return this.max;
+    }
+}
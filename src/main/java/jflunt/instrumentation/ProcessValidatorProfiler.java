@@ -0,0 +1,99 @@
+package jflunt.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import jflunt.validations.ProcessValidator;
+
+public class ProcessValidatorProfiler {
+
+    private final double sampleRate;
+    private final ConcurrentMap<String, ConcurrentMap<String, Samples>> properties;
+
+    public ProcessValidatorProfiler(double sampleRate) {
+        if (!(sampleRate > 0 && sampleRate <= 1))
+            throw new IllegalArgumentException("Sample rate must be greater than 0 and at most 1");
+
+        this.sampleRate = sampleRate;
+        this.properties = new ConcurrentHashMap<String, ConcurrentMap<String, Samples>>();
+    }
+
+    public double getSampleRate() {
+        return this.sampleRate;
+    }
+
+    public ProcessValidator wrap(ProcessValidator validator, String property, String message) {
+        Samples samples = samplesOf(String.valueOf(property), String.valueOf(message));
+
+        return () -> {
+            if (!sampled())
+                return validator.run();
+
+            long start = System.nanoTime();
+            boolean valid = validator.run();
+            samples.record(valid, System.nanoTime() - start);
+            return valid;
+        };
+    }
+
+    public List<ValidatorProfile> top(int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("Limit must not be negative");
+
+        List<ValidatorProfile> profiles = new ArrayList<ValidatorProfile>();
+        this.properties.forEach((property, messages) -> messages.forEach((message, samples) -> {
+            Window window = samples.window;
+            LatencySnapshot latency = window.latency.snapshot();
+            if (latency.getCount() > 0)
+                profiles.add(new ValidatorProfile(property, message, window.failures.sum(), latency));
+        }));
+
+        profiles.sort(Comparator.<ValidatorProfile>comparingDouble(profile -> profile.getLatency().getMeanNanos()).reversed());
+        return profiles.size() > limit ? new ArrayList<ValidatorProfile>(profiles.subList(0, limit)) : profiles;
+    }
+
+    public void reset() {
+        this.properties.forEach((property, messages) -> messages.forEach((message, samples) -> samples.reset()));
+    }
+
+    private Samples samplesOf(String property, String message) {
+        ConcurrentMap<String, Samples> messages = this.properties.get(property);
+        if (messages == null)
+            messages = this.properties.computeIfAbsent(property, key -> new ConcurrentHashMap<String, Samples>());
+
+        Samples samples = messages.get(message);
+        if (samples == null)
+            samples = messages.computeIfAbsent(message, key -> new Samples());
+
+        return samples;
+    }
+
+    private boolean sampled() {
+        return this.sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+    }
+
+    private static class Samples {
+        private volatile Window window = new Window();
+
+        private void record(boolean valid, long nanos) {
+            Window window = this.window;
+            if (!valid)
+                window.failures.increment();
+            window.latency.record(nanos);
+        }
+
+        private void reset() {
+            this.window = new Window();
+        }
+    }
+
+    private static class Window {
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
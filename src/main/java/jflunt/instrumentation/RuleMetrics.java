@@ -0,0 +1,38 @@
+package jflunt.instrumentation;
+
+public class RuleMetrics {
+
+    private final String property;
+    private final String rule;
+    private final long invocations;
+    private final long failures;
+    private final LatencySnapshot latency;
+
+    RuleMetrics(String property, String rule, long invocations, long failures, LatencySnapshot latency) {
+        this.property = property;
+        this.rule = rule;
+        this.invocations = invocations;
+        this.failures = failures;
+        this.latency = latency;
+    }
+
+    public String getProperty() {
+        return this.property;
+    }
+
+    public String getRule() {
+        return this.rule;
+    }
+
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    public long getFailures() {
+        return this.failures;
+    }
+
+    public LatencySnapshot getLatency() {
+        return this.latency;
+    }
+}
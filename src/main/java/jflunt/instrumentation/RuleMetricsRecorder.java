@@ -0,0 +1,61 @@
+package jflunt.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RuleMetricsRecorder implements ValidationInstrumentation {
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Counters>> properties;
+
+    public RuleMetricsRecorder() {
+        this.properties = new ConcurrentHashMap<String, ConcurrentMap<String, Counters>>();
+    }
+
+    @Override
+    public void onEvaluation(String property, String rule, boolean passed, long nanos) {
+        Counters counters = countersOf(String.valueOf(property), String.valueOf(rule));
+        counters.invocations.increment();
+        if (!passed)
+            counters.failures.increment();
+        counters.latency.record(nanos);
+    }
+
+    public List<RuleMetrics> snapshot() {
+        List<RuleMetrics> metrics = new ArrayList<RuleMetrics>();
+        for (Map.Entry<String, ConcurrentMap<String, Counters>> property : this.properties.entrySet()) {
+            for (Map.Entry<String, Counters> rule : property.getValue().entrySet()) {
+                Counters counters = rule.getValue();
+                metrics.add(new RuleMetrics(property.getKey(), rule.getKey(),
+                    counters.invocations.sum(), counters.failures.sum(), counters.latency.snapshot()));
+            }
+        }
+        return Collections.unmodifiableList(metrics);
+    }
+
+    public void reset() {
+        this.properties.clear();
+    }
+
+    private Counters countersOf(String property, String rule) {
+        ConcurrentMap<String, Counters> rules = this.properties.get(property);
+        if (rules == null)
+            rules = this.properties.computeIfAbsent(property, key -> new ConcurrentHashMap<String, Counters>());
+
+        Counters counters = rules.get(rule);
+        if (counters == null)
+            counters = rules.computeIfAbsent(rule, key -> new Counters());
+
+        return counters;
+    }
+
+    private static class Counters {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,5 @@
+package jflunt.instrumentation;
+
+public interface ValidationInstrumentation {
+    void onEvaluation(String property, String rule, boolean passed, long nanos);
+}
@@ -0,0 +1,36 @@
+package jflunt.instrumentation;
+
+public class ValidatorProfile {
+
+    private final String property;
+    private final String message;
+    private final long failures;
+    private final LatencySnapshot latency;
+
+    ValidatorProfile(String property, String message, long failures, LatencySnapshot latency) {
+        this.property = property;
+        this.message = message;
+        this.failures = failures;
+        this.latency = latency;
+    }
+
+    public String getProperty() {
+        return this.property;
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+
+    public long getSamples() {
+        return this.latency.getCount();
+    }
+
+    public long getFailures() {
+        return this.failures;
+    }
+
+    public LatencySnapshot getLatency() {
+        return this.latency;
+    }
+}
@@ -0,0 +1,186 @@
+package jflunt.notifications;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+public final class EncodedNotifications extends AbstractList<Notification> implements RandomAccess {
+
+    private final ByteBuffer buffer;
+    private final boolean codes;
+    private final int[] stringOffsets;
+    private final int[] stringLengths;
+    private final int[] recordOffsets;
+    private final String[] strings;
+    private final Notification[] notifications;
+    private int position;
+
+    EncodedNotifications(ByteBuffer source) {
+        this.buffer = source.duplicate();
+        this.position = this.buffer.position();
+
+        if (this.buffer.remaining() < 4
+            || readByte() != NotificationCodec.MAGIC_0
+            || readByte() != NotificationCodec.MAGIC_1)
+            throw new IllegalArgumentException("Not an encoded notification list");
+
+        int version = readByte();
+        if (version != NotificationCodec.VERSION)
+            throw new IllegalArgumentException("Unsupported notification encoding version " + version);
+
+        this.codes = (readByte() & NotificationCodec.FLAG_CODES) != 0;
+
+        int stringCount = readCount(1);
+        this.stringOffsets = new int[stringCount];
+        this.stringLengths = new int[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            this.stringLengths[i] = readCount();
+            this.stringOffsets[i] = this.position;
+            skip(this.stringLengths[i]);
+        }
+
+        int recordCount = readCount(this.codes ? 3 : 2);
+        this.recordOffsets = new int[recordCount];
+        for (int i = 0; i < recordCount; i++) {
+            this.recordOffsets[i] = this.position;
+            skipPath();
+            readVarint();
+            if (this.codes)
+                readVarint();
+        }
+
+        this.strings = new String[stringCount];
+        this.notifications = new Notification[recordCount];
+    }
+
+    @Override
+    public int size() {
+        return this.recordOffsets.length;
+    }
+
+    @Override
+    public synchronized Notification get(int index) {
+        Notification notification = this.notifications[index];
+        if (notification == null) {
+            notification = materialize(index);
+            this.notifications[index] = notification;
+        }
+        return notification;
+    }
+
+    public synchronized String getMessage(int index) {
+        this.position = this.recordOffsets[index];
+        skipPath();
+        return messageAt();
+    }
+
+    public boolean hasCodes() {
+        return this.codes;
+    }
+
+    public synchronized int getCode(int index) {
+        if (!this.codes)
+            throw new IllegalStateException("Notifications were encoded without codes");
+
+        this.position = this.recordOffsets[index];
+        skipPath();
+        readVarint();
+        int zigzag = (int) readVarint();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private Notification materialize(int index) {
+        this.position = this.recordOffsets[index];
+        long segments = readVarint();
+
+        PropertyPath path = segments == 0 ? null : PropertyPath.root();
+        for (long segment = 1; segment < segments; segment++) {
+            long node = readVarint();
+            path = (node & 1) == 0 ? path.child(string(checkedIndex(node >>> 1))) : path.index((int) (node >>> 1));
+        }
+
+        String message = messageAt();
+        return path == null ? new Notification((String) null, message) : new Notification(path, message);
+    }
+
+    private void skipPath() {
+        long segments = readVarint();
+        for (long segment = 1; segment < segments; segment++) {
+            readVarint();
+        }
+    }
+
+    private String messageAt() {
+        long message = readVarint();
+        return message == 0 ? null : string(checkedIndex(message - 1));
+    }
+
+    private int checkedIndex(long index) {
+        if (index >= this.strings.length)
+            throw new IllegalArgumentException("String index " + index + " outside table of " + this.strings.length);
+
+        return (int) index;
+    }
+
+    private String string(int index) {
+        String string = this.strings[index];
+        if (string == null) {
+            int offset = this.stringOffsets[index];
+            int length = this.stringLengths[index];
+            if (this.buffer.hasArray()) {
+                string = new String(this.buffer.array(), this.buffer.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+            } else {
+                byte[] bytes = new byte[length];
+                for (int i = 0; i < length; i++) {
+                    bytes[i] = this.buffer.get(offset + i);
+                }
+                string = new String(bytes, StandardCharsets.UTF_8);
+            }
+            this.strings[index] = string;
+        }
+        return string;
+    }
+
+    private int readByte() {
+        if (this.position >= this.buffer.limit())
+            throw new IllegalArgumentException("Truncated notification encoding");
+
+        return this.buffer.get(this.position++);
+    }
+
+    private long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed varint in notification encoding");
+    }
+
+    private int readCount() {
+        long count = readVarint();
+        if (count > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Count " + count + " is too large");
+
+        return (int) count;
+    }
+
+    private int readCount(int minBytesPerEntry) {
+        int count = readCount();
+        int remaining = this.buffer.limit() - this.position;
+        if (count > remaining / minBytesPerEntry)
+            throw new IllegalArgumentException("Count " + count + " exceeds the " + remaining + " remaining bytes");
+
+        return count;
+    }
+
+    private void skip(int length) {
+        if (length > this.buffer.limit() - this.position)
+            throw new IllegalArgumentException("Truncated notification encoding");
+
+        this.position += length;
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import jflunt.instrumentation.FlightRecorderEvents;
+
 public abstract class Notifiable {
 
     private List<Notification> notifications;
@@ -27,14 +29,18 @@ public abstract class Notifiable {
 
     public void addNotifications(List<Notification> notification) {
         this.notifications.addAll(notification);
+        if (FlightRecorderEvents.isNotificationMergeEnabled() && !notification.isEmpty())
+            FlightRecorderEvents.notificationsMerged(notification.get(0).getProperty(), notification.size());
     }
 
     public void addNotifications(Collection<Notification> notification) {
         this.notifications.addAll(notification);
+        if (FlightRecorderEvents.isNotificationMergeEnabled() && !notification.isEmpty())
+            FlightRecorderEvents.notificationsMerged(notification.iterator().next().getProperty(), notification.size());
     }
     
     public void addNotifications(Notifiable notifiable) {
-        this.notifications.addAll(notifiable.getNotifications());
+        addNotifications(notifiable.getNotifications());
     }
 
     public void addNotifications(Notifiable... items) {
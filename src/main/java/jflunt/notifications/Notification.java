@@ -3,21 +3,54 @@ package jflunt.notifications;
 public class Notification {
 
     private String property;
+    private PropertyPath path;
     private String message;
+    private boolean structured;
 
     public Notification(String property, String message) {
         this.setProperty(property);
         this.setMessage(message);
     }
 
+    public Notification(PropertyPath path, String message) {
+        this.setPath(path);
+        this.setMessage(message);
+        this.structured = true;
+    }
+
     public String getProperty() {
-        return this.property;
+        String property = this.property;
+        if (property == null && this.path != null) {
+            property = this.path.toString();
+            this.property = property;
+        }
+        return property;
     }
 
     private void setProperty(String property) {
         this.property = property;
     }
 
+    public PropertyPath getPath() {
+        PropertyPath path = this.path;
+        if (path == null) {
+            path = PropertyPath.of(this.property);
+            this.path = path;
+        }
+        return path;
+    }
+
+    private void setPath(PropertyPath path) {
+        if (path == null)
+            throw new IllegalArgumentException("Path must not be null");
+
+        this.path = path;
+    }
+
+    boolean isStructured() {
+        return this.structured;
+    }
+
     public String getMessage() {
         return this.message;
     }
@@ -25,4 +58,4 @@ public class Notification {
     private void setMessage(String message) {
         this.message = message;
     }
-}
\ No newline at end of file
+}
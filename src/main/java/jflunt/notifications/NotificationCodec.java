@@ -0,0 +1,154 @@
+package jflunt.notifications;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+public final class NotificationCodec {
+
+    static final byte MAGIC_0 = 'J';
+    static final byte MAGIC_1 = 'N';
+    static final byte VERSION = 1;
+    static final int FLAG_CODES = 1;
+
+    private NotificationCodec() {
+    }
+
+    public static byte[] encode(Notifiable notifiable) {
+        return encode(notifiable.getNotifications(), null);
+    }
+
+    public static byte[] encode(Collection<Notification> notifications) {
+        return encode(notifications, null);
+    }
+
+    public static byte[] encode(Collection<Notification> notifications, ToIntFunction<? super Notification> codes) {
+        Map<String, Integer> indices = new HashMap<String, Integer>();
+        List<String> strings = new ArrayList<String>();
+        Sink records = new Sink(notifications.size() * 8);
+        PropertyPath[] nodes = new PropertyPath[8];
+
+        for (Notification notification : notifications) {
+            PropertyPath path = pathOf(notification);
+            if (path == null) {
+                records.varint(0);
+            } else {
+                int depth = path.getDepth();
+                if (nodes.length < depth)
+                    nodes = new PropertyPath[depth * 2];
+                for (PropertyPath node = path; !node.isRoot(); node = node.getParent()) {
+                    nodes[node.getDepth() - 1] = node;
+                }
+
+                records.varint(depth + 1);
+                for (int i = 0; i < depth; i++) {
+                    PropertyPath node = nodes[i];
+                    records.varint(node.getSegment() == null
+                        ? (long) node.getIndex() << 1 | 1
+                        : (long) indexOf(node.getSegment(), indices, strings) << 1);
+                }
+            }
+
+            String message = notification.getMessage();
+            records.varint(message == null ? 0 : indexOf(message, indices, strings) + 1);
+
+            if (codes != null) {
+                int code = codes.applyAsInt(notification);
+                records.varint(((code << 1) ^ (code >> 31)) & 0xFFFFFFFFL);
+            }
+        }
+
+        Sink out = new Sink(records.size + strings.size() * 16 + 16);
+        out.write(MAGIC_0);
+        out.write(MAGIC_1);
+        out.write(VERSION);
+        out.write(codes == null ? 0 : FLAG_CODES);
+        out.varint(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.varint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+        out.varint(notifications.size());
+        out.write(records.bytes, 0, records.size);
+        return out.toByteArray();
+    }
+
+    public static EncodedNotifications decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+
+    public static EncodedNotifications decode(ByteBuffer buffer) {
+        return new EncodedNotifications(buffer);
+    }
+
+    private static PropertyPath pathOf(Notification notification) {
+        if (notification.isStructured())
+            return notification.getPath();
+
+        String property = notification.getProperty();
+        if (property == null)
+            return null;
+
+        PropertyPath path = notification.getPath();
+        if (path.toString().equals(property))
+            return path;
+
+        return PropertyPath.root().child(property);
+    }
+
+    private static int indexOf(String string, Map<String, Integer> indices, List<String> strings) {
+        Integer index = indices.get(string);
+        if (index == null) {
+            index = strings.size();
+            indices.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    private static final class Sink {
+
+        private byte[] bytes;
+        private int size;
+
+        Sink(int capacity) {
+            this.bytes = new byte[Math.max(16, capacity)];
+        }
+
+        void write(int b) {
+            ensure(1);
+            this.bytes[this.size++] = (byte) b;
+        }
+
+        void write(byte[] source, int offset, int length) {
+            ensure(length);
+            System.arraycopy(source, offset, this.bytes, this.size, length);
+            this.size += length;
+        }
+
+        void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                this.bytes[this.size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.size);
+        }
+
+        private void ensure(int extra) {
+            if (this.size + extra > this.bytes.length)
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.size + extra));
+        }
+    }
+}
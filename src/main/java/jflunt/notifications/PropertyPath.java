@@ -0,0 +1,196 @@
+package jflunt.notifications;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public final class PropertyPath {
+
+    private static final PropertyPath ROOT = new PropertyPath(null, null, -1);
+    private static final Map<String, WeakReference<String>> SEGMENTS = new WeakHashMap<String, WeakReference<String>>();
+
+    private final PropertyPath parent;
+    private final String segment;
+    private final int index;
+    private final int depth;
+
+    private PropertyPath(PropertyPath parent, String segment, int index) {
+        this.parent = parent;
+        this.segment = segment;
+        this.index = index;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+    }
+
+    public static PropertyPath root() {
+        return ROOT;
+    }
+
+    public static PropertyPath of(String property) {
+        if (property == null || property.isEmpty())
+            return ROOT;
+
+        PropertyPath path = ROOT;
+        int length = property.length();
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            char c = property.charAt(i);
+            if (c == '.' || c == '[') {
+                if (i > start)
+                    path = path.child(intern(property.substring(start, i)));
+
+                if (c == '[') {
+                    int close = property.indexOf(']', i);
+                    int index = close < 0 ? -1 : parseIndex(property, i + 1, close);
+                    if (index < 0)
+                        return ROOT.child(property);
+
+                    path = path.index(index);
+                    i = close;
+                }
+                start = i + 1;
+            }
+            i++;
+        }
+        return start < length ? path.child(intern(property.substring(start))) : path;
+    }
+
+    public PropertyPath child(String segment) {
+        if (segment == null || segment.isEmpty())
+            return this;
+
+        return new PropertyPath(this, segment, -1);
+    }
+
+    public PropertyPath index(int index) {
+        if (index < 0)
+            throw new IllegalArgumentException("Index must not be negative");
+
+        return new PropertyPath(this, null, index);
+    }
+
+    public PropertyPath resolve(PropertyPath relative) {
+        if (relative.isRoot())
+            return this;
+        if (isRoot())
+            return relative;
+
+        PropertyPath base = resolve(relative.parent);
+        return relative.segment == null ? base.index(relative.index) : base.child(relative.segment);
+    }
+
+    public boolean isRoot() {
+        return this.parent == null;
+    }
+
+    public PropertyPath getParent() {
+        return this.parent;
+    }
+
+    public String getSegment() {
+        return this.segment;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    @Override
+    public String toString() {
+        if (isRoot())
+            return "";
+        if (this.parent.isRoot() && this.segment != null)
+            return this.segment;
+
+        PropertyPath[] nodes = new PropertyPath[this.depth];
+        int length = 0;
+        for (PropertyPath node = this; !node.isRoot(); node = node.parent) {
+            nodes[node.depth - 1] = node;
+            length += node.segment == null ? 2 + digits(node.index) : node.segment.length() + 1;
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        for (PropertyPath node : nodes) {
+            if (node.segment == null) {
+                builder.append('[').append(node.index).append(']');
+            } else {
+                if (builder.length() > 0)
+                    builder.append('.');
+                builder.append(node.segment);
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof PropertyPath))
+            return false;
+
+        PropertyPath a = this;
+        PropertyPath b = (PropertyPath) other;
+        if (a.depth != b.depth)
+            return false;
+
+        while (!a.isRoot()) {
+            if (a == b)
+                return true;
+            if (a.index != b.index || (a.segment == null ? b.segment != null : !a.segment.equals(b.segment)))
+                return false;
+
+            a = a.parent;
+            b = b.parent;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (PropertyPath node = this; !node.isRoot(); node = node.parent) {
+            hash = 31 * hash + (node.segment == null ? node.index : node.segment.hashCode());
+        }
+        return hash;
+    }
+
+    private static String intern(String segment) {
+        synchronized (SEGMENTS) {
+            WeakReference<String> reference = SEGMENTS.get(segment);
+            String interned = reference == null ? null : reference.get();
+            if (interned != null)
+                return interned;
+
+            SEGMENTS.put(segment, new WeakReference<String>(segment));
+            return segment;
+        }
+    }
+
+    private static int parseIndex(String property, int from, int to) {
+        if (from == to || to - from > 9)
+            return -1;
+
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char c = property.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private static int digits(int index) {
+        int digits = 1;
+        while (index >= 10) {
+            index /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
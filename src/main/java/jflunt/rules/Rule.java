@@ -0,0 +1,69 @@
+package jflunt.rules;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public class Rule<T> {
+
+    private final int index;
+    private final String name;
+    private final String property;
+    private final String message;
+    private final Predicate<? super T> predicate;
+    private final Set<String> prerequisites;
+    private final RuleStatistics statistics;
+    private RuleCost cost;
+
+    Rule(int index, String name, String property, String message, Predicate<? super T> predicate) {
+        this.index = index;
+        this.name = name;
+        this.property = property;
+        this.message = message;
+        this.predicate = predicate;
+        this.prerequisites = new LinkedHashSet<String>();
+        this.statistics = new RuleStatistics();
+        this.cost = RuleCost.MODERATE;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public String getProperty() {
+        return this.property;
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+
+    public RuleCost getCost() {
+        return this.cost;
+    }
+
+    public RuleStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    public Set<String> getPrerequisites() {
+        return Collections.unmodifiableSet(this.prerequisites);
+    }
+
+    public boolean test(T target) {
+        return this.predicate.test(target);
+    }
+
+    int getIndex() {
+        return this.index;
+    }
+
+    void setCost(RuleCost cost) {
+        this.cost = cost;
+    }
+
+    void addPrerequisite(String name) {
+        this.prerequisites.add(name);
+    }
+}
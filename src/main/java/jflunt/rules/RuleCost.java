@@ -0,0 +1,18 @@
+package jflunt.rules;
+
+public enum RuleCost {
+    TRIVIAL(1),
+    CHEAP(10),
+    MODERATE(100),
+    EXPENSIVE(1000);
+
+    private final int weight;
+
+    RuleCost(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return this.weight;
+    }
+}
@@ -0,0 +1,97 @@
+package jflunt.rules;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+class RulePlan<T> {
+
+    private final List<Rule<T>> order;
+    private final int[][] prerequisites;
+
+    private RulePlan(List<Rule<T>> order, int[][] prerequisites) {
+        this.order = order;
+        this.prerequisites = prerequisites;
+    }
+
+    int size() {
+        return this.order.size();
+    }
+
+    Rule<T> get(int index) {
+        return this.order.get(index);
+    }
+
+    int[] prerequisitesOf(int index) {
+        return this.prerequisites[index];
+    }
+
+    List<String> names() {
+        List<String> names = new ArrayList<String>(this.order.size());
+        for (Rule<T> rule : this.order) {
+            names.add(rule.getName());
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    static <T> RulePlan<T> compile(Collection<Rule<T>> rules, Comparator<Rule<T>> priority) {
+        Map<String, Rule<T>> byName = new HashMap<String, Rule<T>>();
+        Map<String, Integer> pending = new HashMap<String, Integer>();
+        Map<String, List<Rule<T>>> dependents = new HashMap<String, List<Rule<T>>>();
+
+        for (Rule<T> rule : rules) {
+            byName.put(rule.getName(), rule);
+            pending.put(rule.getName(), rule.getPrerequisites().size());
+        }
+
+        for (Rule<T> rule : rules) {
+            for (String prerequisite : rule.getPrerequisites()) {
+                if (!byName.containsKey(prerequisite))
+                    throw new IllegalStateException("Rule '" + rule.getName() + "' depends on unknown rule '" + prerequisite + "'");
+
+                dependents.computeIfAbsent(prerequisite, key -> new ArrayList<Rule<T>>()).add(rule);
+            }
+        }
+
+        PriorityQueue<Rule<T>> ready = new PriorityQueue<Rule<T>>(Math.max(1, rules.size()), priority);
+        for (Rule<T> rule : rules) {
+            if (rule.getPrerequisites().isEmpty())
+                ready.add(rule);
+        }
+
+        List<Rule<T>> order = new ArrayList<Rule<T>>(rules.size());
+        Map<String, Integer> positions = new HashMap<String, Integer>();
+        while (!ready.isEmpty()) {
+            Rule<T> rule = ready.poll();
+            positions.put(rule.getName(), order.size());
+            order.add(rule);
+
+            for (Rule<T> dependent : dependents.getOrDefault(rule.getName(), Collections.<Rule<T>>emptyList())) {
+                int remaining = pending.merge(dependent.getName(), -1, Integer::sum);
+                if (remaining == 0)
+                    ready.add(dependent);
+            }
+        }
+
+        if (order.size() != rules.size())
+            throw new IllegalStateException("Rule prerequisites contain a cycle");
+
+        int[][] prerequisites = new int[order.size()][];
+        for (int i = 0; i < order.size(); i++) {
+            Rule<T> rule = order.get(i);
+            int[] indexes = new int[rule.getPrerequisites().size()];
+            int j = 0;
+            for (String prerequisite : rule.getPrerequisites()) {
+                indexes[j++] = positions.get(prerequisite);
+            }
+            prerequisites[i] = indexes;
+        }
+
+        return new RulePlan<T>(order, prerequisites);
+    }
+}
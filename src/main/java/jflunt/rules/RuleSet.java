@@ -0,0 +1,245 @@
+package jflunt.rules;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import jflunt.instrumentation.Instrumentation;
+import jflunt.instrumentation.ValidationInstrumentation;
+import jflunt.notifications.Notifiable;
+import jflunt.specifications.CompositeSpecification;
+import jflunt.validations.Contract;
+
+public class RuleSet<T> {
+
+    private final Map<String, Rule<T>> rules;
+    private final AtomicLong evaluations;
+    private Rule<T> last;
+    private boolean failFast;
+    private long reorderInterval;
+    private volatile Map<String, Integer> ranking;
+    private volatile RulePlan<T> plan;
+
+    public RuleSet() {
+        this.rules = new LinkedHashMap<String, Rule<T>>();
+        this.evaluations = new AtomicLong();
+        this.ranking = Collections.emptyMap();
+    }
+
+    public RuleSet<T> rule(String name, String property, String message, Predicate<? super T> predicate) {
+        if (this.rules.containsKey(name))
+            throw new IllegalArgumentException("Rule '" + name + "' is already defined");
+
+        this.last = new Rule<T>(this.rules.size(), name, property, message, predicate);
+        this.rules.put(name, this.last);
+        this.plan = null;
+        return this;
+    }
+
+    public RuleSet<T> withCost(RuleCost cost) {
+        lastRule().setCost(cost);
+        this.plan = null;
+        return this;
+    }
+
+    public RuleSet<T> dependsOn(String... names) {
+        Rule<T> rule = lastRule();
+        for (String name : names) {
+            rule.addPrerequisite(name);
+        }
+        this.plan = null;
+        return this;
+    }
+
+    public RuleSet<T> failFast() {
+        this.failFast = true;
+        return this;
+    }
+
+    public RuleSet<T> adaptive(long reorderInterval) {
+        if (reorderInterval <= 0)
+            throw new IllegalArgumentException("Reorder interval must be greater than zero");
+
+        this.reorderInterval = reorderInterval;
+        return this;
+    }
+
+    public boolean isFailFast() {
+        return this.failFast;
+    }
+
+    public boolean isAdaptive() {
+        return this.reorderInterval > 0;
+    }
+
+    public List<String> getOrder() {
+        return plan().names();
+    }
+
+    public synchronized RuleSet<T> loadOrder(List<String> order) {
+        Map<String, Integer> ranking = new HashMap<String, Integer>();
+        for (String name : order) {
+            if (this.rules.containsKey(name))
+                ranking.putIfAbsent(name, ranking.size());
+        }
+        this.ranking = ranking;
+        this.plan = null;
+        return this;
+    }
+
+    public RuleStatistics getStatistics(String name) {
+        Rule<T> rule = this.rules.get(name);
+        if (rule == null)
+            throw new IllegalArgumentException("Rule '" + name + "' is not defined");
+
+        return rule.getStatistics();
+    }
+
+    public Contract validate(T target) {
+        return validate(target, new Contract());
+    }
+
+    public Contract validate(T target, Contract contract) {
+        run(target, contract);
+        return contract;
+    }
+
+    public boolean isSatisfiedBy(T target) {
+        return run(target, null);
+    }
+
+    public Predicate<T> asPredicate() {
+        return this::isSatisfiedBy;
+    }
+
+    public CompositeSpecification<T> asSpecification() {
+        return this::run;
+    }
+
+    private boolean run(T target, Notifiable notifications) {
+        RulePlan<T> plan = plan();
+        boolean adaptive = isAdaptive();
+        ValidationInstrumentation instrumentation = Instrumentation.current();
+        boolean timed = adaptive || instrumentation != null;
+        boolean[] passed = notifications == null ? null : new boolean[plan.size()];
+        boolean satisfied = true;
+
+        for (int i = 0; i < plan.size(); i++) {
+            if (passed != null && !prerequisitesPassed(plan.prerequisitesOf(i), passed))
+                continue;
+
+            Rule<T> rule = plan.get(i);
+            if (timed ? evaluate(rule, target, adaptive, instrumentation) : rule.test(target)) {
+                if (passed != null)
+                    passed[i] = true;
+            } else {
+                satisfied = false;
+                if (notifications == null)
+                    break;
+
+                notifications.addNotification(rule.getProperty(), rule.getMessage());
+                if (this.failFast)
+                    break;
+            }
+        }
+
+        if (adaptive && this.evaluations.incrementAndGet() % this.reorderInterval == 0)
+            reorder();
+
+        return satisfied;
+    }
+
+    private boolean evaluate(Rule<T> rule, T target, boolean adaptive, ValidationInstrumentation instrumentation) {
+        long start = System.nanoTime();
+        boolean passed = rule.test(target);
+        long elapsed = System.nanoTime() - start;
+
+        if (adaptive)
+            rule.getStatistics().record(passed, elapsed);
+        if (instrumentation != null)
+            instrumentation.onEvaluation(rule.getProperty(), rule.getName(), passed, elapsed);
+
+        return passed;
+    }
+
+    private static boolean prerequisitesPassed(int[] prerequisites, boolean[] passed) {
+        for (int prerequisite : prerequisites) {
+            if (!passed[prerequisite])
+                return false;
+        }
+        return true;
+    }
+
+    private synchronized void reorder() {
+        List<String> current = plan().names();
+        List<Rule<T>> learned = new ArrayList<Rule<T>>(this.rules.values());
+
+        long measured = 0;
+        double failureRate = 0;
+        double nanosPerWeight = 0;
+        for (Rule<T> rule : learned) {
+            RuleStatistics statistics = rule.getStatistics();
+            if (statistics.getEvaluations() > 0) {
+                measured++;
+                failureRate += statistics.getFailureRate();
+                nanosPerWeight += statistics.getMeanNanos() / rule.getCost().getWeight();
+            }
+        }
+        if (measured > 0) {
+            failureRate /= measured;
+            nanosPerWeight /= measured;
+        }
+
+        Map<Rule<T>, Double> scores = new HashMap<Rule<T>, Double>();
+        for (Rule<T> rule : learned) {
+            RuleStatistics statistics = rule.getStatistics();
+            scores.put(rule, statistics.getEvaluations() > 0
+                ? statistics.score()
+                : failureRate / Math.max(1, nanosPerWeight * rule.getCost().getWeight()));
+        }
+
+        learned.sort(Comparator.<Rule<T>>comparingDouble(scores::get).reversed()
+            .thenComparingInt(rule -> rule.getCost().getWeight())
+            .thenComparingInt(rule -> current.indexOf(rule.getName())));
+
+        List<String> order = new ArrayList<String>(learned.size());
+        for (Rule<T> rule : learned) {
+            order.add(rule.getName());
+        }
+        loadOrder(order);
+    }
+
+    private Rule<T> lastRule() {
+        if (this.last == null)
+            throw new IllegalStateException("No rule has been defined yet");
+
+        return this.last;
+    }
+
+    private RulePlan<T> plan() {
+        RulePlan<T> plan = this.plan;
+        if (plan == null) {
+            synchronized (this) {
+                plan = this.plan;
+                if (plan == null) {
+                    plan = RulePlan.compile(this.rules.values(), priority());
+                    this.plan = plan;
+                }
+            }
+        }
+        return plan;
+    }
+
+    private Comparator<Rule<T>> priority() {
+        Map<String, Integer> ranking = this.ranking;
+        return Comparator.<Rule<T>>comparingInt(rule -> ranking.getOrDefault(rule.getName(), Integer.MAX_VALUE))
+            .thenComparingInt(rule -> rule.getCost().getWeight())
+            .thenComparingInt(Rule::getIndex);
+    }
+}
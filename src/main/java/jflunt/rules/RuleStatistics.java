@@ -0,0 +1,49 @@
+package jflunt.rules;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class RuleStatistics {
+
+    private final LongAdder evaluations;
+    private final LongAdder failures;
+    private final LongAdder nanos;
+
+    RuleStatistics() {
+        this.evaluations = new LongAdder();
+        this.failures = new LongAdder();
+        this.nanos = new LongAdder();
+    }
+
+    public long getEvaluations() {
+        return this.evaluations.sum();
+    }
+
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    public long getTotalNanos() {
+        return this.nanos.sum();
+    }
+
+    public double getFailureRate() {
+        long evaluations = getEvaluations();
+        return evaluations == 0 ? 0 : (double) getFailures() / evaluations;
+    }
+
+    public double getMeanNanos() {
+        long evaluations = getEvaluations();
+        return evaluations == 0 ? 0 : (double) getTotalNanos() / evaluations;
+    }
+
+    double score() {
+        return getFailureRate() / Math.max(1, getMeanNanos());
+    }
+
+    void record(boolean passed, long nanos) {
+        this.evaluations.increment();
+        this.nanos.add(nanos);
+        if (!passed)
+            this.failures.increment();
+    }
+}
@@ -0,0 +1,103 @@
+package jflunt.specifications;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jflunt.notifications.Notifiable;
+import jflunt.validations.Contract;
+
+@FunctionalInterface
+public interface CompositeSpecification<T> {
+
+    boolean evaluate(T candidate, Notifiable notifications);
+
+    static <T> CompositeSpecification<T> of(String property, String message, Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        return (candidate, notifications) -> {
+            if (predicate.test(candidate))
+                return true;
+
+            if (notifications != null)
+                notifications.addNotification(property, message);
+            return false;
+        };
+    }
+
+    static <T> CompositeSpecification<T> fromContract(Function<? super T, ? extends Notifiable> contract) {
+        Objects.requireNonNull(contract, "contract");
+        return (candidate, notifications) -> {
+            Notifiable result = contract.apply(candidate);
+            if (result.isValid())
+                return true;
+
+            if (notifications != null)
+                notifications.addNotifications(result);
+            return false;
+        };
+    }
+
+    default boolean isSatisfiedBy(T candidate) {
+        return evaluate(candidate, null);
+    }
+
+    default Predicate<T> asPredicate() {
+        return this::isSatisfiedBy;
+    }
+
+    default Contract validate(T candidate) {
+        return validate(candidate, new Contract());
+    }
+
+    default Contract validate(T candidate, Contract contract) {
+        evaluate(candidate, contract);
+        return contract;
+    }
+
+    default CompositeSpecification<T> and(CompositeSpecification<T> other) {
+        Objects.requireNonNull(other, "other");
+        return (candidate, notifications) -> {
+            if (notifications == null)
+                return evaluate(candidate, null) && other.evaluate(candidate, null);
+
+            boolean left = evaluate(candidate, notifications);
+            boolean right = other.evaluate(candidate, notifications);
+            return left && right;
+        };
+    }
+
+    default CompositeSpecification<T> or(CompositeSpecification<T> other) {
+        Objects.requireNonNull(other, "other");
+        return (candidate, notifications) -> {
+            if (notifications == null)
+                return evaluate(candidate, null) || other.evaluate(candidate, null);
+
+            Notifiable left = new Notifiable() {};
+            if (evaluate(candidate, left))
+                return true;
+
+            Notifiable right = new Notifiable() {};
+            if (other.evaluate(candidate, right))
+                return true;
+
+            notifications.addNotifications(left, right);
+            return false;
+        };
+    }
+
+    default CompositeSpecification<T> not(String property, String message) {
+        return (candidate, notifications) -> {
+            if (!evaluate(candidate, null))
+                return true;
+
+            if (notifications != null)
+                notifications.addNotification(property, message);
+            return false;
+        };
+    }
+
+    default CompositeSpecification<T> when(Predicate<? super T> condition) {
+        Objects.requireNonNull(condition, "condition");
+        return (candidate, notifications) -> !condition.test(candidate) || evaluate(candidate, notifications);
+    }
+}
@@ -3,6 +3,8 @@ package jflunt.validations;
 public interface BarrelValidationContract extends
     BigDecimalValidationContract,
     BooleanValidationContract, 
+    ByteBufferValidationContract,
+    CollectionValidationContract,
     DoubleValidationContract,
     FloatValidationContract,
     IntegerValidationContract,
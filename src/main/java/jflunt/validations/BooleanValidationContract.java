@@ -3,16 +3,18 @@ package jflunt.validations;
 public interface BooleanValidationContract extends ExtensibleContract {
     
     default public Contract isTrue(boolean val, String property, String message) {
+        long start = getContract().startRule();
         if (!val)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isTrue", property);
     }
 
     default public Contract isFalse(boolean val, String property, String message) {
+        long start = getContract().startRule();
         if (val)
             getContract().addNotification(property, message);
 
-        return  getContract();
+        return getContract().endRule(start, "isFalse", property);
     }
 }
\ No newline at end of file
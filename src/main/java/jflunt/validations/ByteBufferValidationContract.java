@@ -0,0 +1,64 @@
+package jflunt.validations;
+
+import java.nio.ByteBuffer;
+
+import jflunt.validations.text.Utf8Buffers;
+
+public interface ByteBufferValidationContract extends ExtensibleContract {
+
+    default public Contract isNotNullOrEmptyUtf8(ByteBuffer val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || Utf8Buffers.isBlank(val, getContract().getWhitespace()))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotNullOrEmptyUtf8", property);
+    }
+
+    default public Contract hasMinLenUtf8(ByteBuffer val, int min, String property, String message) {
+        long start = getContract().startRule();
+        if ((val == null || Utf8Buffers.isBlank(val, getContract().getWhitespace())) || Utf8Buffers.length(val) < min)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasMinLenUtf8", property);
+    }
+
+    default public Contract hasMaxLenUtf8(ByteBuffer val, int max, String property, String message) {
+        long start = getContract().startRule();
+        if ((val == null || Utf8Buffers.isBlank(val, getContract().getWhitespace())) || Utf8Buffers.length(val) > max)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasMaxLenUtf8", property);
+    }
+
+    default public Contract hasLenUtf8(ByteBuffer val, int len, String property, String message) {
+        long start = getContract().startRule();
+        if ((val == null || Utf8Buffers.isBlank(val, getContract().getWhitespace())) || Utf8Buffers.length(val) != len)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasLenUtf8", property);
+    }
+
+    default public Contract containsUtf8(ByteBuffer val, CharSequence text, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !Utf8Buffers.contains(val, text))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "containsUtf8", property);
+    }
+
+    default public Contract isEmailUtf8(ByteBuffer email, String property, String message) {
+        long start = getContract().startRule();
+        if (email == null || !Utf8Buffers.isEmail(email))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isEmailUtf8", property);
+    }
+
+    default public Contract isDigitUtf8(ByteBuffer text, String property, String message) {
+        long start = getContract().startRule();
+        if (text == null || !Utf8Buffers.isDigits(text))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isDigitUtf8", property);
+    }
+}
\ No newline at end of file
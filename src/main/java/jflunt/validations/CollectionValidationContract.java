@@ -0,0 +1,246 @@
+package jflunt.validations;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import jflunt.notifications.Notification;
+import jflunt.notifications.PropertyPath;
+import jflunt.validations.arrays.ColumnRanges;
+import jflunt.validations.arrays.PrimitiveArrays;
+
+public interface CollectionValidationContract extends ExtensibleContract {
+
+    default public Contract isNotEmpty(Collection<?> val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || val.isEmpty())
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotEmpty", property);
+    }
+
+    default public Contract hasMinSize(Collection<?> val, int min, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || val.size() < min)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasMinSize", property);
+    }
+
+    default public Contract hasMaxSize(Collection<?> val, int max, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || val.size() > max)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasMaxSize", property);
+    }
+
+    default public Contract hasSize(Collection<?> val, int size, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || val.size() != size)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasSize", property);
+    }
+
+    default public <T> Contract allMatch(Collection<T> val, Predicate<? super T> predicate, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "allMatch", property);
+        }
+
+        for (T item : val) {
+            if (!predicate.test(item)) {
+                getContract().addNotification(property, message);
+                break;
+            }
+        }
+        return getContract().endRule(start, "allMatch", property);
+    }
+
+    default public <T> Contract anyMatch(Collection<T> val, Predicate<? super T> predicate, String property, String message) {
+        long start = getContract().startRule();
+        if (val != null) {
+            for (T item : val) {
+                if (predicate.test(item))
+                    return getContract().endRule(start, "anyMatch", property);
+            }
+        }
+
+        getContract().addNotification(property, message);
+        return getContract().endRule(start, "anyMatch", property);
+    }
+
+    default public Contract hasNoDuplicates(Collection<?> val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "hasNoDuplicates", property);
+        }
+
+        if (val instanceof Set)
+            return getContract().endRule(start, "hasNoDuplicates", property);
+
+        Set<Object> seen = new HashSet<Object>(Math.max(16, val.size() * 2));
+        for (Object item : val) {
+            if (!seen.add(item)) {
+                getContract().addNotification(property, message);
+                break;
+            }
+        }
+        return getContract().endRule(start, "hasNoDuplicates", property);
+    }
+
+    default public Contract hasNoDuplicates(int[] val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || PrimitiveArrays.hasDuplicates(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasNoDuplicates", property);
+    }
+
+    default public Contract hasNoDuplicates(long[] val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || PrimitiveArrays.hasDuplicates(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasNoDuplicates", property);
+    }
+
+    default public Contract hasNoDuplicates(double[] val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || PrimitiveArrays.hasDuplicates(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "hasNoDuplicates", property);
+    }
+
+    default public <T extends Comparable<? super T>> Contract isSorted(Collection<T> val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "isSorted", property);
+        }
+
+        Iterator<T> iterator = val.iterator();
+        T previous = null;
+        while (iterator.hasNext()) {
+            T current = iterator.next();
+            if (current == null || (previous != null && previous.compareTo(current) > 0)) {
+                getContract().addNotification(property, message);
+                break;
+            }
+            previous = current;
+        }
+        return getContract().endRule(start, "isSorted", property);
+    }
+
+    default public Contract isSorted(int[] val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !PrimitiveArrays.isSorted(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isSorted", property);
+    }
+
+    default public Contract isSorted(long[] val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !PrimitiveArrays.isSorted(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isSorted", property);
+    }
+
+    default public Contract isSorted(double[] val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !PrimitiveArrays.isSorted(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isSorted", property);
+    }
+
+    default public <T extends Comparable<? super T>> Contract allBetween(Collection<T> val, T from, T to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "allBetween", property);
+        }
+
+        for (T item : val) {
+            if (item == null || item.compareTo(from) < 0 || item.compareTo(to) > 0) {
+                getContract().addNotification(property, message);
+                break;
+            }
+        }
+        return getContract().endRule(start, "allBetween", property);
+    }
+
+    default public Contract allBetween(int[] val, int from, int to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !PrimitiveArrays.allBetween(val, from, to))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "allBetween", property);
+    }
+
+    default public Contract allBetween(long[] val, long from, long to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !PrimitiveArrays.allBetween(val, from, to))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "allBetween", property);
+    }
+
+    default public Contract allBetween(double[] val, double from, double to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !PrimitiveArrays.allBetween(val, from, to))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "allBetween", property);
+    }
+
+    default public Contract eachBetween(int[] val, int from, int to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "eachBetween", property);
+        }
+
+        PropertyPath path = PropertyPath.root().child(property);
+        for (int index : ColumnRanges.indicesOutside(val, from, to)) {
+            getContract().addNotification(new Notification(path.index(index), message));
+        }
+        return getContract().endRule(start, "eachBetween", property);
+    }
+
+    default public Contract eachBetween(long[] val, long from, long to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "eachBetween", property);
+        }
+
+        PropertyPath path = PropertyPath.root().child(property);
+        for (int index : ColumnRanges.indicesOutside(val, from, to)) {
+            getContract().addNotification(new Notification(path.index(index), message));
+        }
+        return getContract().endRule(start, "eachBetween", property);
+    }
+
+    default public Contract eachBetween(double[] val, double from, double to, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "eachBetween", property);
+        }
+
+        PropertyPath path = PropertyPath.root().child(property);
+        for (int index : ColumnRanges.indicesOutside(val, from, to)) {
+            getContract().addNotification(new Notification(path.index(index), message));
+        }
+        return getContract().endRule(start, "eachBetween", property);
+    }
+}
\ No newline at end of file
@@ -1,20 +1,153 @@
 package jflunt.validations;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import jflunt.instrumentation.FlightRecorderEvents;
+import jflunt.instrumentation.Instrumentation;
+import jflunt.instrumentation.ValidationInstrumentation;
 import jflunt.notifications.Notifiable;
+import jflunt.notifications.Notification;
+import jflunt.validations.text.Whitespace;
 
 public class Contract extends Notifiable implements BarrelValidationContract {
 
+    private static final int MAX_SCOPES = 64;
+    private static final long UNMEASURED = Long.MIN_VALUE;
+
+    private Whitespace whitespace;
+    private int scopes;
+    private long skippedScopes;
+    private int failures;
+    private int failuresBeforeRule;
+
+    public Contract() {
+        super();
+        this.whitespace = Whitespace.TRIM;
+        if (FlightRecorderEvents.isContractCreationEnabled())
+            FlightRecorderEvents.contractCreated();
+    }
+
     public Contract requires() {
         return this;
     }
 
+    public Contract withWhitespace(Whitespace whitespace) {
+        this.whitespace = whitespace;
+        return this;
+    }
+
+    public Whitespace getWhitespace() {
+        return this.whitespace;
+    }
+
+    public Contract when(boolean condition) {
+        return openScope(!condition);
+    }
+
+    public Contract when(BooleanSupplier condition) {
+        return openScope(isSkipping() || !condition.getAsBoolean());
+    }
+
+    public Contract unless(boolean condition) {
+        return openScope(condition);
+    }
+
+    public Contract unless(BooleanSupplier condition) {
+        return openScope(isSkipping() || condition.getAsBoolean());
+    }
+
+    public Contract end() {
+        if (this.scopes == 0)
+            throw new IllegalStateException("No when/unless scope is open");
+
+        this.scopes--;
+        this.skippedScopes &= ~(1L << this.scopes);
+        return this;
+    }
+
+    public Contract when(boolean condition, Consumer<Contract> rules) {
+        return when(condition).apply(rules);
+    }
+
+    public Contract when(BooleanSupplier condition, Consumer<Contract> rules) {
+        return when(condition).apply(rules);
+    }
+
+    public Contract unless(boolean condition, Consumer<Contract> rules) {
+        return unless(condition).apply(rules);
+    }
+
+    public Contract unless(BooleanSupplier condition, Consumer<Contract> rules) {
+        return unless(condition).apply(rules);
+    }
+
+    public boolean isSkipping() {
+        return this.skippedScopes != 0;
+    }
+
+    @Override
+    public boolean isInvalid() {
+        if (this.scopes > 0)
+            throw new IllegalStateException(this.scopes + " when/unless scope(s) still open, call end() before reading the result");
+
+        return super.isInvalid();
+    }
+
+    boolean hasNotifications() {
+        return super.isInvalid();
+    }
+
+    @Override
+    public void addNotification(String property, String message) {
+        if (isSkipping())
+            return;
+
+        super.addNotification(property, message);
+        this.failures++;
+    }
+
+    @Override
+    public void addNotification(Notification notification) {
+        if (isSkipping())
+            return;
+
+        super.addNotification(notification);
+        this.failures++;
+    }
+
+    @Override
+    public void addNotifications(List<Notification> notification) {
+        if (!isSkipping())
+            super.addNotifications(notification);
+    }
+
+    @Override
+    public void addNotifications(Collection<Notification> notification) {
+        if (!isSkipping())
+            super.addNotifications(notification);
+    }
+
     public Contract join(Notifiable... items) {
         if (items != null) {
+            boolean traced = FlightRecorderEvents.isContractJoinEnabled() && !isSkipping();
+            String property = null;
+            int merged = 0;
             for(Notifiable notifiable: items) {
                 if (notifiable.isInvalid()) {
-                    addNotifications(notifiable.getNotifications());
+                    List<Notification> notifications = notifiable.getNotifications();
+                    addNotifications(notifications);
+                    if (traced) {
+                        if (merged == 0)
+                            property = notifications.get(0).getProperty();
+                        merged += notifications.size();
+                    }
                 }
             }
+            if (traced)
+                FlightRecorderEvents.contractJoined(property, items.length, merged);
         }
         
         return this;
@@ -24,4 +157,45 @@ public class Contract extends Notifiable implements BarrelValidationContract {
     public Contract getContract() {
         return this;
     }
-}
\ No newline at end of file
+
+    long startRule() {
+        if (Instrumentation.current() == null || isSkipping())
+            return UNMEASURED;
+
+        this.failuresBeforeRule = this.failures;
+        return System.nanoTime();
+    }
+
+    Contract endRule(long start, String rule, String property) {
+        if (start == UNMEASURED)
+            return this;
+
+        long nanos = System.nanoTime() - start;
+        ValidationInstrumentation instrumentation = Instrumentation.current();
+        if (instrumentation != null)
+            instrumentation.onEvaluation(property, rule, this.failures == this.failuresBeforeRule, nanos);
+
+        return this;
+    }
+
+    private Contract openScope(boolean skip) {
+        if (this.scopes == MAX_SCOPES)
+            throw new IllegalStateException("Too many nested when/unless scopes");
+
+        if (skip)
+            this.skippedScopes |= 1L << this.scopes;
+
+        this.scopes++;
+        return this;
+    }
+
+    private Contract apply(Consumer<Contract> rules) {
+        try {
+            if (!isSkipping())
+                rules.accept(this);
+        } finally {
+            end();
+        }
+        return this;
+    }
+}
@@ -1,13 +1,41 @@
 package jflunt.validations;
 
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jflunt.instrumentation.Instrumentation;
+import jflunt.instrumentation.ValidationInstrumentation;
+
 public interface ExtensibleContract {
 
     Contract getContract();
 
     default public Contract mustBe(ProcessValidator validator, String property, String message) {
-        if (!validator.run())
+        if (getContract().isSkipping())
+            return getContract();
+
+        ValidationInstrumentation instrumentation = Instrumentation.current();
+        boolean valid;
+
+        if (instrumentation == null) {
+            valid = validator.run();
+        } else {
+            long start = System.nanoTime();
+            valid = validator.run();
+            instrumentation.onEvaluation(property, "mustBe", valid, System.nanoTime() - start);
+        }
+
+        if (!valid)
             getContract().addNotification(property, message);
 
         return getContract();
     }
-}
\ No newline at end of file
+
+    default public <T> Contract mustBe(Supplier<T> value, Predicate<? super T> predicate, String property, String message) {
+        if (getContract().isSkipping())
+            return getContract();
+
+        T val = value.get();
+        return mustBe(() -> predicate.test(val), property, message);
+    }
+}
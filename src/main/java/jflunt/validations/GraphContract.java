@@ -0,0 +1,191 @@
+package jflunt.validations;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import jflunt.notifications.Notifiable;
+import jflunt.notifications.Notification;
+import jflunt.notifications.PropertyPath;
+
+public class GraphContract extends Contract {
+
+    private final Set<Object> ancestors;
+    private PropertyPath path;
+    private int depth;
+    private int maxDepth;
+    private boolean failFast;
+
+    public GraphContract() {
+        super();
+        this.ancestors = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        this.path = PropertyPath.root();
+        this.maxDepth = Integer.MAX_VALUE;
+    }
+
+    public GraphContract withMaxDepth(int maxDepth) {
+        if (maxDepth < 0)
+            throw new IllegalArgumentException("Max depth must not be negative");
+
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    public GraphContract failFast() {
+        this.failFast = true;
+        return this;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public PropertyPath getPath() {
+        return this.path;
+    }
+
+    public <T> GraphContract validate(T root, GraphValidator<? super T> validator) {
+        if (root == null || stopped() || !this.ancestors.add(root))
+            return this;
+
+        try {
+            validator.validate(root, this);
+        } finally {
+            this.ancestors.remove(root);
+        }
+        return this;
+    }
+
+    public <T> GraphContract validate(String property, T child, GraphValidator<? super T> validator) {
+        if (child == null || !canDescend())
+            return this;
+
+        PropertyPath parent = enter(property);
+        try {
+            return validate(child, validator);
+        } finally {
+            this.path = parent;
+            this.depth--;
+        }
+    }
+
+    public <T> GraphContract validateEach(String property, Iterable<? extends T> children, GraphValidator<? super T> validator) {
+        if (children == null || !canDescend())
+            return this;
+
+        PropertyPath parent = this.path;
+        PropertyPath collection = parent.child(property);
+        this.depth++;
+        try {
+            int index = 0;
+            for (T child : children) {
+                if (stopped())
+                    break;
+
+                if (child != null) {
+                    this.path = collection.index(index);
+                    validate(child, validator);
+                }
+                index++;
+            }
+        } finally {
+            this.path = parent;
+            this.depth--;
+        }
+        return this;
+    }
+
+    public GraphContract join(String property, Notifiable child) {
+        if (child == null || child.isValid() || !canDescend())
+            return this;
+
+        PropertyPath parent = enter(property);
+        try {
+            joinAtPath(child);
+        } finally {
+            this.path = parent;
+            this.depth--;
+        }
+        return this;
+    }
+
+    public GraphContract joinEach(String property, Iterable<? extends Notifiable> children) {
+        if (children == null || !canDescend())
+            return this;
+
+        PropertyPath parent = this.path;
+        PropertyPath collection = parent.child(property);
+        this.depth++;
+        try {
+            int index = 0;
+            for (Notifiable child : children) {
+                if (stopped())
+                    break;
+
+                if (child != null && child.isInvalid()) {
+                    this.path = collection.index(index);
+                    joinAtPath(child);
+                }
+                index++;
+            }
+        } finally {
+            this.path = parent;
+            this.depth--;
+        }
+        return this;
+    }
+
+    @Override
+    public void addNotification(String property, String message) {
+        if (this.path.isRoot())
+            super.addNotification(property, message);
+        else if (!isSkipping())
+            super.addNotification(new Notification(this.path.child(property), message));
+    }
+
+    @Override
+    public void addNotification(Notification notification) {
+        if (this.path.isRoot())
+            super.addNotification(notification);
+        else if (!isSkipping())
+            super.addNotification(new Notification(this.path.resolve(notification.getPath()), notification.getMessage()));
+    }
+
+    @Override
+    public void addNotifications(List<Notification> notifications) {
+        addNotifications((Collection<Notification>) notifications);
+    }
+
+    @Override
+    public void addNotifications(Collection<Notification> notifications) {
+        if (this.path.isRoot()) {
+            super.addNotifications(notifications);
+            return;
+        }
+
+        for (Notification notification : notifications) {
+            addNotification(notification);
+        }
+    }
+
+    private void joinAtPath(Notifiable child) {
+        addNotifications(child.getNotifications());
+    }
+
+    private boolean stopped() {
+        return this.failFast && hasNotifications();
+    }
+
+    private boolean canDescend() {
+        return this.depth < this.maxDepth && !stopped() && !isSkipping();
+    }
+
+    private PropertyPath enter(String property) {
+        PropertyPath parent = this.path;
+        this.path = parent.child(property);
+        this.depth++;
+        return parent;
+    }
+}
@@ -0,0 +1,6 @@
+package jflunt.validations;
+
+@FunctionalInterface
+public interface GraphValidator<T> {
+    void validate(T target, GraphContract contract);
+}
@@ -1,5 +1,6 @@
 package jflunt.validations;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -7,201 +8,433 @@ import java.time.LocalTime;
 import java.time.MonthDay;
 import java.time.ZonedDateTime;
 
+import jflunt.validations.time.EpochUnit;
+import jflunt.validations.time.TimeWindow;
+import jflunt.validations.time.ValidationClock;
+
 public interface JavaTimeValidationContract extends ExtensibleContract {
 
     default public Contract isGreaterThan(LocalDateTime val, LocalDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer) || val.isEqual(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(LocalDate val, LocalDate comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer) || val.isEqual(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(LocalTime val, LocalTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer) || val.equals(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(Instant val, Instant comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer) || val.equals(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(ZonedDateTime val, ZonedDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer) || val.isEqual(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(MonthDay val, MonthDay comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer) || val.equals(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(LocalDateTime val, LocalDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(LocalDate val, LocalDate comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(LocalTime val, LocalTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(MonthDay val, MonthDay comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(Instant val, Instant comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(ZonedDateTime val, ZonedDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isBefore(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isLowerThan(LocalDateTime val, LocalDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer) || val.isEqual(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(LocalDate val, LocalDate comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer) || val.isEqual(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(LocalTime val, LocalTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer) || val.equals(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(MonthDay val, MonthDay comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer) || val.equals(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(Instant val, Instant comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer) || val.equals(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(ZonedDateTime val, ZonedDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer) || val.isEqual(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(LocalDateTime val, LocalDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(LocalDate val, LocalDate comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(LocalTime val, LocalTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(MonthDay val, MonthDay comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(Instant val, Instant comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(ZonedDateTime val, ZonedDateTime comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.isAfter(comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
    
     default public Contract isBetween(LocalDateTime val, LocalDateTime from, LocalDateTime to, String property, String message) {
+        long start = getContract().startRule();
         if (!(val.isAfter(from) && val.isBefore(to)))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isBetween", property);
     }
 
     default public Contract isBetween(LocalDate val, LocalDate from, LocalDate to, String property, String message) {
+        long start = getContract().startRule();
         if (!(val.isAfter(from) && val.isBefore(to)))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isBetween", property);
     }
 
     default public Contract isBetween(LocalTime val, LocalTime from, LocalTime to, String property, String message) {
+        long start = getContract().startRule();
         if (!(val.isAfter(from) && val.isBefore(to)))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isBetween", property);
     }
 
     default public Contract isBetween(ZonedDateTime val, ZonedDateTime from, ZonedDateTime to, String property, String message) {
+        long start = getContract().startRule();
         if (!(val.isAfter(from) && val.isBefore(to)))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isBetween(Instant val, TimeWindow window, String property, String message) {
+        long start = getContract().startRule();
+        if (!window.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isBetween(ZonedDateTime val, TimeWindow window, String property, String message) {
+        long start = getContract().startRule();
+        if (!window.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isBetween(LocalDateTime val, TimeWindow window, String property, String message) {
+        long start = getContract().startRule();
+        if (!window.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isBetween(LocalDate val, TimeWindow window, String property, String message) {
+        long start = getContract().startRule();
+        if (!window.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isBetween(LocalTime val, TimeWindow window, String property, String message) {
+        long start = getContract().startRule();
+        if (!window.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isWithin(Instant val, Duration duration, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !ValidationClock.isWithin(val.getEpochSecond(), val.getNano(), duration))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isWithin", property);
+    }
+
+    default public Contract isWithin(ZonedDateTime val, Duration duration, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !ValidationClock.isWithin(val.toEpochSecond(), val.getNano(), duration))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isWithin", property);
+    }
+
+    default public Contract isWithin(LocalDateTime val, Duration duration, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !ValidationClock.isWithin(ValidationClock.epochSecondOf(val), val.getNano(), duration))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isWithin", property);
+    }
+
+    default public Contract isNotInFuture(Instant val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || ValidationClock.compareToNow(val.getEpochSecond(), val.getNano()) > 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotInFuture", property);
+    }
+
+    default public Contract isNotInFuture(ZonedDateTime val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || ValidationClock.compareToNow(val.toEpochSecond(), val.getNano()) > 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotInFuture", property);
+    }
+
+    default public Contract isNotInFuture(LocalDateTime val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || ValidationClock.compareToNow(ValidationClock.epochSecondOf(val), val.getNano()) > 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotInFuture", property);
+    }
+
+    default public Contract isNotInFuture(LocalDate val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || val.toEpochDay() > ValidationClock.today())
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotInFuture", property);
+    }
+
+    default public Contract isNotOlderThan(Instant val, Duration age, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !ValidationClock.isNotOlderThan(val.getEpochSecond(), val.getNano(), age))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotOlderThan", property);
+    }
+
+    default public Contract isNotOlderThan(ZonedDateTime val, Duration age, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !ValidationClock.isNotOlderThan(val.toEpochSecond(), val.getNano(), age))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotOlderThan", property);
+    }
+
+    default public Contract isNotOlderThan(LocalDateTime val, Duration age, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !ValidationClock.isNotOlderThan(ValidationClock.epochSecondOf(val), val.getNano(), age))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotOlderThan", property);
+    }
+
+    default public Contract isGreaterThan(long val, EpochUnit unit, long comparer, EpochUnit comparerUnit, String property, String message) {
+        long start = getContract().startRule();
+        if (EpochUnit.compare(val, unit, comparer, comparerUnit) <= 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isGreaterThan", property);
+    }
+
+    default public Contract isGreaterOrEqualsThan(long val, EpochUnit unit, long comparer, EpochUnit comparerUnit, String property, String message) {
+        long start = getContract().startRule();
+        if (EpochUnit.compare(val, unit, comparer, comparerUnit) < 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
+    }
+
+    default public Contract isLowerThan(long val, EpochUnit unit, long comparer, EpochUnit comparerUnit, String property, String message) {
+        long start = getContract().startRule();
+        if (EpochUnit.compare(val, unit, comparer, comparerUnit) >= 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isLowerThan", property);
+    }
+
+    default public Contract isLowerOrEqualsThan(long val, EpochUnit unit, long comparer, EpochUnit comparerUnit, String property, String message) {
+        long start = getContract().startRule();
+        if (EpochUnit.compare(val, unit, comparer, comparerUnit) > 0)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
+    }
+
+    default public Contract isBetween(long val, EpochUnit unit, long from, long to, EpochUnit boundsUnit, String property, String message) {
+        long start = getContract().startRule();
+        if (!(EpochUnit.compare(val, unit, from, boundsUnit) > 0 && EpochUnit.compare(val, unit, to, boundsUnit) < 0))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isBetween(long val, TimeWindow window, EpochUnit unit, String property, String message) {
+        long start = getContract().startRule();
+        if (!window.contains(val, unit))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isWithin(long val, Duration duration, EpochUnit unit, String property, String message) {
+        long start = getContract().startRule();
+        unit.requireInstant("isWithin");
+
+        if (!ValidationClock.isWithin(unit.toEpochSecond(val), unit.toNanoAdjustment(val), duration))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isWithin", property);
+    }
+
+    default public Contract isNotInFuture(long val, EpochUnit unit, String property, String message) {
+        long start = getContract().startRule();
+        boolean future = unit.isInstant()
+            ? ValidationClock.compareToNow(unit.toEpochSecond(val), unit.toNanoAdjustment(val)) > 0
+            : val > ValidationClock.today();
+
+        if (future)
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotInFuture", property);
+    }
+
+    default public Contract isNotOlderThan(long val, Duration age, EpochUnit unit, String property, String message) {
+        long start = getContract().startRule();
+        unit.requireInstant("isNotOlderThan");
+
+        if (!ValidationClock.isNotOlderThan(unit.toEpochSecond(val), unit.toNanoAdjustment(val), age))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotOlderThan", property);
     }
 }
\ No newline at end of file
@@ -2,187 +2,248 @@ package jflunt.validations;
 
 import java.math.BigDecimal;
 
+import jflunt.validations.membership.MappedKeySet;
+import jflunt.validations.membership.LongSet;
+
 public interface LongValidationContract extends ExtensibleContract {
 
     default public Contract isGreaterThan(Long val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) < 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(Integer val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) < 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(Double val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Double.compare(val, comparer) < 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(Float val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Float.compare(val, comparer) < 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterThan(BigDecimal val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(new BigDecimal(comparer)) < 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(Long val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) <= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(Integer val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) <= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(Float val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Float.compare(val, comparer) <= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(Double val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Double.compare(val, comparer) <= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isGreaterOrEqualsThan(BigDecimal val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(new BigDecimal(comparer)) <= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isGreaterOrEqualsThan", property);
     }
 
     default public Contract isLowerThan(Long val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) >= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(Integer val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) >= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(Float val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Float.compare(val, comparer) >= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(Double val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Double.compare(val, comparer) >= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerThan(BigDecimal val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(new BigDecimal(comparer)) >= 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(Long val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(Integer val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(Double val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Double.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(Float val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Float.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract isLowerOrEqualsThan(BigDecimal val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(new BigDecimal(comparer)) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isLowerOrEqualsThan", property);
     }
 
     default public Contract areEquals(Long val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areEquals(Integer val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Long.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areEquals(Double val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Double.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areEquals(Float val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (Float.compare(val, comparer) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areEquals(BigDecimal val, Long comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(new BigDecimal(comparer)) == 0)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract isBetween(Long val, Long from, Integer to, String property, String message) {
+        long start = getContract().startRule();
         if (!(Long.compare(val, from) >= 0 && Long.compare(val, to) <= 0))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isBetween", property);
+    }
+
+    default public Contract isIn(long val, LongSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIn", property);
+    }
+
+    default public Contract isNotIn(long val, LongSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotIn", property);
+    }
+
+    default public Contract isIn(long val, MappedKeySet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIn", property);
+    }
+
+    default public Contract isNotIn(long val, MappedKeySet set, String property, String message) {
+        long start = getContract().startRule();
+        if (set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotIn", property);
     }
 }
\ No newline at end of file
@@ -1,41 +1,47 @@
 package jflunt.validations;
 
+import java.util.Objects;
 import java.util.Optional;
 
 public interface ObjectValidationContract extends ExtensibleContract {
 
     default public Contract isNull(Object obj, String property, String message) {
+        long start = getContract().startRule();
         if (obj != null)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isNull", property);
     }
 
     default public Contract isNotNull(Object obj, String property, String message) {
+        long start = getContract().startRule();
         if (obj == null)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isNotNull", property);
     }
 
     default public Contract areEquals(Object obj, Object comparer, String property, String message) {
-        if (!obj.equals(comparer))
+        long start = getContract().startRule();
+        if (!Objects.equals(obj, comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areNotEquals(Object obj, Object comparer, String property, String message) {
-        if (obj.equals(comparer))
+        long start = getContract().startRule();
+        if (Objects.equals(obj, comparer))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areNotEquals", property);
     }
 
     default public <T> Contract isNullOrOptional(Optional<T> val, String property, String message) {
+        long start = getContract().startRule();
         if (val == null || !val.isPresent()) 
             getContract().addNotification(property, message);
         
-        return getContract();
+        return getContract().endRule(start, "isNullOrOptional", property);
     }
 }
\ No newline at end of file
@@ -1,83 +1,195 @@
 package jflunt.validations;
 
+import jflunt.validations.membership.MappedKeySet;
+import jflunt.validations.membership.StringSet;
+import jflunt.validations.text.CharSequences;
+import jflunt.validations.text.NumericStrings;
+import jflunt.validations.text.PatternSet;
+
 public interface StringValidationContract extends ExtensibleContract {
 
     default public Contract isNotNullOrEmpty(String val, String property, String message) {
-        if (val == null || val.trim().length() == 0)
+        return isNotNullOrEmpty((CharSequence) val, property, message);
+    }
+
+    default public Contract isNotNullOrEmpty(CharSequence val, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || CharSequences.isBlank(val, getContract().getWhitespace()))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isNotNullOrEmpty", property);
     }
 
     default public Contract isNullOrEmpty(String val, String property, String message) {
-        if (!(val == null || val.trim().length() == 0))
+        return isNullOrEmpty((CharSequence) val, property, message);
+    }
+
+    default public Contract isNullOrEmpty(CharSequence val, String property, String message) {
+        long start = getContract().startRule();
+        if (!(val == null || CharSequences.isBlank(val, getContract().getWhitespace())))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "isNullOrEmpty", property);
     }
 
     default public Contract hasMinLen(String val, int min, String property, String message) {
-        if ((val == null || val.trim().length() == 0) || val.length() < min)
+        return hasMinLen((CharSequence) val, min, property, message);
+    }
+
+    default public Contract hasMinLen(CharSequence val, int min, String property, String message) {
+        long start = getContract().startRule();
+        if ((val == null || CharSequences.isBlank(val, getContract().getWhitespace())) || val.length() < min)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "hasMinLen", property);
     }
 
     default public Contract hasMaxLen(String val, int max, String property, String message) {
-        if ((val == null || val.trim().length() == 0) || val.length() > max)
+        return hasMaxLen((CharSequence) val, max, property, message);
+    }
+
+    default public Contract hasMaxLen(CharSequence val, int max, String property, String message) {
+        long start = getContract().startRule();
+        if ((val == null || CharSequences.isBlank(val, getContract().getWhitespace())) || val.length() > max)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "hasMaxLen", property);
     }
 
     default public Contract hasLen(String val, int len, String property, String message) {
-        if ((val == null || val.trim().length() == 0) || val.length() != len)
+        return hasLen((CharSequence) val, len, property, message);
+    }
+
+    default public Contract hasLen(CharSequence val, int len, String property, String message) {
+        long start = getContract().startRule();
+        if ((val == null || CharSequences.isBlank(val, getContract().getWhitespace())) || val.length() != len)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "hasLen", property);
     }
 
     default public Contract contains(String val, String text, String property, String message) {
-        if (!val.contains(text))
+        return contains((CharSequence) val, (CharSequence) text, property, message);
+    }
+
+    default public Contract contains(CharSequence val, CharSequence text, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || !CharSequences.contains(val, text))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "contains", property);
     }
 
     default public Contract areEquals(String val, String text, String property, String message) {
+        long start = getContract().startRule();
         if (val == text)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areNotEquals(String val, String text, String property, String message) {
+        long start = getContract().startRule();
         if (val != text)
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "areNotEquals", property);
     }
 
     default public Contract isEmail(String email, String property, String message) {
-        String pattern = "^\\w+([-+.']\\w+)*@\\w+([-.]\\w+)*\\.\\w+([-.]\\w+)*$";
-        return matchs(email, pattern, property, message);
+        return isEmail((CharSequence) email, property, message);
     }
 
+    default public Contract isEmail(CharSequence email, String property, String message) {
+        long start = getContract().startRule();
+        if (email == null || !CharSequences.isEmail(email))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isEmail", property);
+    }
    
     default public Contract isUrl(String url, String property, String message) {
+        long start = getContract().startRule();
         String pattern = "^(http:\\/\\/www\\.|https:\\/\\/www\\.|http:\\/\\/|https:\\/\\/)[a-z0-9]+([\\-\\.]{1}[a-z0-9]+)*\\.[a-z]{2,5}(:[0-9]{1,5})?(\\/.*)?$";
-        return matchs(url, pattern, property, message);
+        if (url == null || !url.matches(pattern))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isUrl", property);
     }
 
     default  public Contract matchs(String text, String pattern, String property, String message) {
-        if (!text.matches(pattern))
+        long start = getContract().startRule();
+        if (text == null || !text.matches(pattern))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "matchs", property);
+    }
+
+    default public Contract matchsAny(CharSequence text, PatternSet patterns, String property, String message) {
+        long start = getContract().startRule();
+        if (!patterns.matches(text))
             getContract().addNotification(property, message);
 
-        return getContract();
+        return getContract().endRule(start, "matchsAny", property);
     }
 
     default public Contract isDigit(String text, String property, String message) {
-        String pattern = "^\\d+$";
-        return matchs(text, pattern, property, message);
+        return isDigit((CharSequence) text, property, message);
+    }
+
+    default public Contract isDigit(CharSequence text, String property, String message) {
+        long start = getContract().startRule();
+        if (text == null || !CharSequences.isDigits(text))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isDigit", property);
+    }
+
+    default public Contract isIntegerInRange(CharSequence text, long min, long max, String property, String message) {
+        long start = getContract().startRule();
+        if (!NumericStrings.isIntegerInRange(text, min, max))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIntegerInRange", property);
+    }
+
+    default public Contract isDecimal(CharSequence text, int precision, int scale, String property, String message) {
+        long start = getContract().startRule();
+        if (!NumericStrings.isDecimal(text, precision, scale))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isDecimal", property);
+    }
+
+    default public Contract isIn(CharSequence val, StringSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIn", property);
+    }
+
+    default public Contract isNotIn(CharSequence val, StringSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotIn", property);
+    }
+
+    default public Contract isIn(CharSequence val, MappedKeySet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIn", property);
+    }
+
+    default public Contract isNotIn(CharSequence val, MappedKeySet set, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotIn", property);
     }
 }
\ No newline at end of file
@@ -2,19 +2,131 @@ package jflunt.validations;
 
 import java.util.UUID;
 
+import jflunt.validations.membership.MappedKeySet;
+import jflunt.validations.membership.UuidSet;
+import jflunt.validations.text.UuidStrings;
+
 public interface UUIDValidationContract extends ExtensibleContract {
     
     default public Contract areEquals(UUID val, UUID comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(comparer) != 0) 
             getContract().addNotification(property, message);
         
-        return getContract();
+        return getContract().endRule(start, "areEquals", property);
     }
 
     default public Contract areNotEquals(UUID val, UUID comparer, String property, String message) {
+        long start = getContract().startRule();
         if (val.compareTo(comparer) == 0) 
             getContract().addNotification(property, message);
         
-        return getContract();
+        return getContract().endRule(start, "areNotEquals", property);
+    }
+
+    default public Contract areEquals(long mostSigBits, long leastSigBits, UUID comparer, String property, String message) {
+        long start = getContract().startRule();
+        if (comparer == null || mostSigBits != comparer.getMostSignificantBits() || leastSigBits != comparer.getLeastSignificantBits())
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "areEquals", property);
+    }
+
+    default public Contract areNotEquals(long mostSigBits, long leastSigBits, UUID comparer, String property, String message) {
+        long start = getContract().startRule();
+        if (comparer != null && mostSigBits == comparer.getMostSignificantBits() && leastSigBits == comparer.getLeastSignificantBits())
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "areNotEquals", property);
+    }
+
+    default public Contract isUUID(CharSequence val, String property, String message) {
+        long start = getContract().startRule();
+        if (!UuidStrings.isUuid(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isUUID", property);
+    }
+
+    default public Contract isUUID(CharSequence val, int version, String property, String message) {
+        long start = getContract().startRule();
+        if (!UuidStrings.isUuid(val, version))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isUUID", property);
+    }
+
+    default public Contract areEqualsUUID(CharSequence val, UUID comparer, String property, String message) {
+        long start = getContract().startRule();
+        if (!UuidStrings.isUuid(val)) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "areEqualsUUID", property);
+        }
+
+        if (comparer == null || UuidStrings.mostSigBits(val) != comparer.getMostSignificantBits() || UuidStrings.leastSigBits(val) != comparer.getLeastSignificantBits())
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "areEqualsUUID", property);
+    }
+
+    default public Contract areNotEqualsUUID(CharSequence val, UUID comparer, String property, String message) {
+        long start = getContract().startRule();
+        if (!UuidStrings.isUuid(val)) {
+            getContract().addNotification(property, message);
+            return getContract().endRule(start, "areNotEqualsUUID", property);
+        }
+
+        if (comparer != null && UuidStrings.mostSigBits(val) == comparer.getMostSignificantBits() && UuidStrings.leastSigBits(val) == comparer.getLeastSignificantBits())
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "areNotEqualsUUID", property);
+    }
+
+    default public Contract isInUUID(CharSequence val, UuidSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!UuidStrings.isUuid(val) || !set.contains(UuidStrings.mostSigBits(val), UuidStrings.leastSigBits(val)))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isInUUID", property);
+    }
+
+    default public Contract isNotInUUID(CharSequence val, UuidSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!UuidStrings.isUuid(val) || set.contains(UuidStrings.mostSigBits(val), UuidStrings.leastSigBits(val)))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotInUUID", property);
+    }
+
+    default public Contract isIn(UUID val, UuidSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIn", property);
+    }
+
+    default public Contract isNotIn(UUID val, UuidSet set, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotIn", property);
+    }
+
+    default public Contract isIn(UUID val, MappedKeySet set, String property, String message) {
+        long start = getContract().startRule();
+        if (!set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isIn", property);
+    }
+
+    default public Contract isNotIn(UUID val, MappedKeySet set, String property, String message) {
+        long start = getContract().startRule();
+        if (val == null || set.contains(val))
+            getContract().addNotification(property, message);
+
+        return getContract().endRule(start, "isNotIn", property);
     }
 }
\ No newline at end of file
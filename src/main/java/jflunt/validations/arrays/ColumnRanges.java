@@ -0,0 +1,114 @@
+package jflunt.validations.arrays;
+
+import java.util.Arrays;
+
+public final class ColumnRanges {
+
+    private ColumnRanges() {
+    }
+
+    public static boolean isVectorized() {
+        return !(RangeKernels.KERNEL instanceof ScalarRangeKernel);
+    }
+
+    public static int firstOutside(int[] vals, int from, int to) {
+        return RangeKernels.KERNEL.nextOutside(vals, 0, from, to);
+    }
+
+    public static int firstOutside(long[] vals, long from, long to) {
+        return RangeKernels.KERNEL.nextOutside(vals, 0, from, to);
+    }
+
+    public static int firstOutside(double[] vals, double from, double to) {
+        return RangeKernels.KERNEL.nextOutside(vals, 0, from, to);
+    }
+
+    public static int nextOutside(int[] vals, int start, int from, int to) {
+        return RangeKernels.KERNEL.nextOutside(vals, start, from, to);
+    }
+
+    public static int[] indicesOutside(int[] vals, int from, int to) {
+        int[] indices = new int[8];
+        int count = 0;
+        for (int i = RangeKernels.KERNEL.nextOutside(vals, 0, from, to); i >= 0; i = RangeKernels.KERNEL.nextOutside(vals, i + 1, from, to)) {
+            indices = append(indices, count++, i);
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    public static int nextOutside(long[] vals, int start, long from, long to) {
+        return RangeKernels.KERNEL.nextOutside(vals, start, from, to);
+    }
+
+    public static int[] indicesOutside(long[] vals, long from, long to) {
+        int[] indices = new int[8];
+        int count = 0;
+        for (int i = RangeKernels.KERNEL.nextOutside(vals, 0, from, to); i >= 0; i = RangeKernels.KERNEL.nextOutside(vals, i + 1, from, to)) {
+            indices = append(indices, count++, i);
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    public static int nextOutside(double[] vals, int start, double from, double to) {
+        return RangeKernels.KERNEL.nextOutside(vals, start, from, to);
+    }
+
+    public static int[] indicesOutside(double[] vals, double from, double to) {
+        int[] indices = new int[8];
+        int count = 0;
+        for (int i = RangeKernels.KERNEL.nextOutside(vals, 0, from, to); i >= 0; i = RangeKernels.KERNEL.nextOutside(vals, i + 1, from, to)) {
+            indices = append(indices, count++, i);
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    public static int nextNotGreaterThan(int[] vals, int start, int comparer) {
+        if (comparer == Integer.MAX_VALUE)
+            return start < vals.length ? start : -1;
+
+        return RangeKernels.KERNEL.nextOutside(vals, start, comparer + 1, Integer.MAX_VALUE);
+    }
+
+    public static int nextNotLowerThan(int[] vals, int start, int comparer) {
+        if (comparer == Integer.MIN_VALUE)
+            return start < vals.length ? start : -1;
+
+        return RangeKernels.KERNEL.nextOutside(vals, start, Integer.MIN_VALUE, comparer - 1);
+    }
+
+    public static int nextNotGreaterThan(long[] vals, int start, long comparer) {
+        if (comparer == Long.MAX_VALUE)
+            return start < vals.length ? start : -1;
+
+        return RangeKernels.KERNEL.nextOutside(vals, start, comparer + 1, Long.MAX_VALUE);
+    }
+
+    public static int nextNotLowerThan(long[] vals, int start, long comparer) {
+        if (comparer == Long.MIN_VALUE)
+            return start < vals.length ? start : -1;
+
+        return RangeKernels.KERNEL.nextOutside(vals, start, Long.MIN_VALUE, comparer - 1);
+    }
+
+    public static int nextNotGreaterThan(double[] vals, int start, double comparer) {
+        if (Double.isNaN(comparer))
+            return start < vals.length ? start : -1;
+
+        return RangeKernels.KERNEL.nextOutside(vals, start, PrimitiveArrays.successor(comparer), Double.NaN);
+    }
+
+    public static int nextNotLowerThan(double[] vals, int start, double comparer) {
+        if (comparer == Double.NEGATIVE_INFINITY)
+            return start < vals.length ? start : -1;
+
+        return RangeKernels.KERNEL.nextOutside(vals, start, Double.NEGATIVE_INFINITY, PrimitiveArrays.predecessor(comparer));
+    }
+
+    private static int[] append(int[] indices, int count, int index) {
+        if (count == indices.length)
+            indices = Arrays.copyOf(indices, count * 2);
+
+        indices[count] = index;
+        return indices;
+    }
+}
@@ -0,0 +1,151 @@
+package jflunt.validations.arrays;
+
+import jflunt.validations.membership.LongHashSet;
+
+public final class PrimitiveArrays {
+
+    private static final int SMALL = 32;
+
+    private PrimitiveArrays() {
+    }
+
+    public static boolean allBetween(int[] vals, int from, int to) {
+        return RangeKernels.KERNEL.nextOutside(vals, 0, from, to) < 0;
+    }
+
+    public static boolean allBetween(long[] vals, long from, long to) {
+        return RangeKernels.KERNEL.nextOutside(vals, 0, from, to) < 0;
+    }
+
+    public static boolean allBetween(double[] vals, double from, double to) {
+        return RangeKernels.KERNEL.nextOutside(vals, 0, from, to) < 0;
+    }
+
+    public static int countOutside(int[] vals, int start, int end, int from, int to) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            int val = vals[i];
+            count += val < from | val > to ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static int countOutside(long[] vals, int start, int end, long from, long to) {
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            long val = vals[i];
+            count += val < from | val > to ? 1 : 0;
+        }
+        return count;
+    }
+
+    public static int countOutside(double[] vals, int start, int end, double from, double to) {
+        long lower = sortable(from);
+        long upper = sortable(to);
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            long val = sortable(vals[i]);
+            count += val < lower | val > upper ? 1 : 0;
+        }
+        return count;
+    }
+
+    static long sortable(double val) {
+        long bits = Double.doubleToLongBits(val);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static double successor(double val) {
+        long bits = sortable(val) + 1;
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    static double predecessor(double val) {
+        if (Double.isNaN(val))
+            return Double.POSITIVE_INFINITY;
+
+        long bits = sortable(val) - 1;
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    public static boolean isSorted(int[] vals) {
+        for (int i = 1; i < vals.length; i++) {
+            if (vals[i - 1] > vals[i])
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isSorted(long[] vals) {
+        for (int i = 1; i < vals.length; i++) {
+            if (vals[i - 1] > vals[i])
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isSorted(double[] vals) {
+        for (int i = 1; i < vals.length; i++) {
+            if (Double.compare(vals[i - 1], vals[i]) > 0)
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean hasDuplicates(int[] vals) {
+        if (vals.length <= SMALL) {
+            for (int i = 1; i < vals.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (vals[i] == vals[j])
+                        return true;
+                }
+            }
+            return false;
+        }
+
+        LongHashSet seen = new LongHashSet(vals.length);
+        for (int val : vals) {
+            if (!seen.add(val))
+                return true;
+        }
+        return false;
+    }
+
+    public static boolean hasDuplicates(long[] vals) {
+        if (vals.length <= SMALL) {
+            for (int i = 1; i < vals.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (vals[i] == vals[j])
+                        return true;
+                }
+            }
+            return false;
+        }
+
+        LongHashSet seen = new LongHashSet(vals.length);
+        for (long val : vals) {
+            if (!seen.add(val))
+                return true;
+        }
+        return false;
+    }
+
+    public static boolean hasDuplicates(double[] vals) {
+        if (vals.length <= SMALL) {
+            for (int i = 1; i < vals.length; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (Double.doubleToLongBits(vals[i]) == Double.doubleToLongBits(vals[j]))
+                        return true;
+                }
+            }
+            return false;
+        }
+
+        LongHashSet seen = new LongHashSet(vals.length);
+        for (double val : vals) {
+            if (!seen.add(Double.doubleToLongBits(val)))
+                return true;
+        }
+        return false;
+    }
+}
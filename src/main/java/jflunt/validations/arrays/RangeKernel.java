@@ -0,0 +1,10 @@
+package jflunt.validations.arrays;
+
+interface RangeKernel {
+
+    int nextOutside(int[] vals, int start, int from, int to);
+
+    int nextOutside(long[] vals, int start, long from, long to);
+
+    int nextOutside(double[] vals, int start, double from, double to);
+}
@@ -0,0 +1,9 @@
+package jflunt.validations.arrays;
+
+final class RangeKernels {
+
+    static final RangeKernel KERNEL = new ScalarRangeKernel();
+
+    private RangeKernels() {
+    }
+}
@@ -0,0 +1,54 @@
+package jflunt.validations.arrays;
+
+class ScalarRangeKernel implements RangeKernel {
+
+    private static final int CHUNK = 256;
+
+    @Override
+    public int nextOutside(int[] vals, int start, int from, int to) {
+        for (int chunk = start; chunk < vals.length; chunk += CHUNK) {
+            int end = Math.min(vals.length, chunk + CHUNK);
+            if (PrimitiveArrays.countOutside(vals, chunk, end, from, to) == 0)
+                continue;
+
+            for (int i = chunk; i < end; i++) {
+                if (vals[i] < from || vals[i] > to)
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int nextOutside(long[] vals, int start, long from, long to) {
+        for (int chunk = start; chunk < vals.length; chunk += CHUNK) {
+            int end = Math.min(vals.length, chunk + CHUNK);
+            if (PrimitiveArrays.countOutside(vals, chunk, end, from, to) == 0)
+                continue;
+
+            for (int i = chunk; i < end; i++) {
+                if (vals[i] < from || vals[i] > to)
+                    return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int nextOutside(double[] vals, int start, double from, double to) {
+        long lower = PrimitiveArrays.sortable(from);
+        long upper = PrimitiveArrays.sortable(to);
+        for (int chunk = start; chunk < vals.length; chunk += CHUNK) {
+            int end = Math.min(vals.length, chunk + CHUNK);
+            if (PrimitiveArrays.countOutside(vals, chunk, end, from, to) == 0)
+                continue;
+
+            for (int i = chunk; i < end; i++) {
+                long val = PrimitiveArrays.sortable(vals[i]);
+                if (val < lower || val > upper)
+                    return i;
+            }
+        }
+        return -1;
+    }
+}
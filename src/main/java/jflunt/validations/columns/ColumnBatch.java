@@ -0,0 +1,71 @@
+package jflunt.validations.columns;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ColumnBatch {
+
+    private final int rows;
+    private final Map<String, Object> columns = new HashMap<String, Object>();
+
+    public ColumnBatch(int rows) {
+        if (rows < 0)
+            throw new IllegalArgumentException("Row count must not be negative");
+
+        this.rows = rows;
+    }
+
+    public int getRowCount() {
+        return this.rows;
+    }
+
+    public ColumnBatch with(String name, int[] column) {
+        return put(name, column, column.length);
+    }
+
+    public ColumnBatch with(String name, long[] column) {
+        return put(name, column, column.length);
+    }
+
+    public ColumnBatch with(String name, double[] column) {
+        return put(name, column, column.length);
+    }
+
+    public ColumnBatch with(String name, CharSequence[] column) {
+        return put(name, column, column.length);
+    }
+
+    int[] ints(String name) {
+        return column(name, int[].class);
+    }
+
+    long[] longs(String name) {
+        return column(name, long[].class);
+    }
+
+    double[] doubles(String name) {
+        return column(name, double[].class);
+    }
+
+    CharSequence[] texts(String name) {
+        return column(name, CharSequence[].class);
+    }
+
+    private ColumnBatch put(String name, Object column, int length) {
+        if (length != this.rows)
+            throw new IllegalArgumentException("Column '" + name + "' has " + length + " rows, expected " + this.rows);
+
+        this.columns.put(name, column);
+        return this;
+    }
+
+    private <C> C column(String name, Class<C> type) {
+        Object column = this.columns.get(name);
+        if (column == null)
+            throw new IllegalArgumentException("Unknown column '" + name + "'");
+        if (!type.isInstance(column))
+            throw new IllegalArgumentException("Column '" + name + "' is not a " + type.getSimpleName() + " column");
+
+        return type.cast(column);
+    }
+}
@@ -0,0 +1,30 @@
+package jflunt.validations.columns;
+
+final class ColumnRule {
+
+    interface Kernel {
+        void evaluate(ColumnBatch batch, long[] failures);
+    }
+
+    private final String property;
+    private final String message;
+    private final Kernel kernel;
+
+    ColumnRule(String property, String message, Kernel kernel) {
+        this.property = property;
+        this.message = message;
+        this.kernel = kernel;
+    }
+
+    String getProperty() {
+        return this.property;
+    }
+
+    String getMessage() {
+        return this.message;
+    }
+
+    void evaluate(ColumnBatch batch, long[] failures) {
+        this.kernel.evaluate(batch, failures);
+    }
+}
@@ -0,0 +1,129 @@
+package jflunt.validations.columns;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import jflunt.notifications.Notification;
+import jflunt.notifications.PropertyPath;
+
+public class ColumnarValidation {
+
+    private final int rows;
+    private final List<ColumnRule> rules;
+    private final RowBitmap[] failures;
+    private final PropertyPath[] columns;
+    private volatile RowBitmap invalidRows;
+    private volatile List<Notification> notifications;
+
+    ColumnarValidation(int rows, List<ColumnRule> rules, RowBitmap[] failures) {
+        this.rows = rows;
+        this.rules = new ArrayList<ColumnRule>(rules);
+        this.failures = failures;
+        this.columns = new PropertyPath[rules.size()];
+        for (int rule = 0; rule < this.columns.length; rule++) {
+            this.columns[rule] = PropertyPath.root().child(rules.get(rule).getProperty());
+        }
+    }
+
+    public int getRowCount() {
+        return this.rows;
+    }
+
+    public int getRuleCount() {
+        return this.failures.length;
+    }
+
+    public boolean isValid() {
+        for (RowBitmap bitmap : this.failures) {
+            if (!bitmap.isEmpty())
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isValid(int row) {
+        for (RowBitmap bitmap : this.failures) {
+            if (bitmap.get(row))
+                return false;
+        }
+        return true;
+    }
+
+    public RowBitmap getFailures(int rule) {
+        return this.failures[rule];
+    }
+
+    public int getFailureCount(int rule) {
+        return this.failures[rule].cardinality();
+    }
+
+    public RowBitmap getInvalidRows() {
+        RowBitmap invalidRows = this.invalidRows;
+        if (invalidRows == null) {
+            invalidRows = RowBitmap.union(this.rows, this.failures);
+            this.invalidRows = invalidRows;
+        }
+        return invalidRows;
+    }
+
+    public int getInvalidRowCount() {
+        return getInvalidRows().cardinality();
+    }
+
+    public BitSet getValidityMask() {
+        BitSet mask = getInvalidRows().toBitSet();
+        mask.flip(0, this.rows);
+        return mask;
+    }
+
+    public List<Notification> getNotifications(int row) {
+        List<Notification> notifications = new ArrayList<Notification>();
+        for (int rule = 0; rule < this.failures.length; rule++) {
+            if (this.failures[rule].get(row))
+                notifications.add(notificationOf(rule, row));
+        }
+        return notifications;
+    }
+
+    public List<Notification> getNotifications() {
+        List<Notification> notifications = this.notifications;
+        if (notifications == null) {
+            notifications = Collections.unmodifiableList(materialize());
+            this.notifications = notifications;
+        }
+        return notifications;
+    }
+
+    private List<Notification> materialize() {
+        int[] next = new int[this.failures.length];
+        int total = 0;
+        for (int rule = 0; rule < next.length; rule++) {
+            next[rule] = this.failures[rule].nextSetBit(0);
+            total += this.failures[rule].cardinality();
+        }
+
+        List<Notification> notifications = new ArrayList<Notification>(total);
+        while (true) {
+            int row = Integer.MAX_VALUE;
+            for (int candidate : next) {
+                if (candidate >= 0 && candidate < row)
+                    row = candidate;
+            }
+            if (row == Integer.MAX_VALUE)
+                return notifications;
+
+            for (int rule = 0; rule < next.length; rule++) {
+                if (next[rule] == row) {
+                    notifications.add(notificationOf(rule, row));
+                    next[rule] = this.failures[rule].nextSetBit(row + 1);
+                }
+            }
+        }
+    }
+
+    private Notification notificationOf(int rule, int row) {
+        return new Notification(this.columns[rule].index(row), this.rules.get(rule).getMessage());
+    }
+}
@@ -0,0 +1,135 @@
+package jflunt.validations.columns;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import jflunt.validations.arrays.ColumnRanges;
+import jflunt.validations.membership.StringSet;
+import jflunt.validations.text.CharSequences;
+import jflunt.validations.text.PatternSet;
+import jflunt.validations.text.Whitespace;
+import jflunt.validations.time.EpochUnit;
+import jflunt.validations.time.TimeWindow;
+import jflunt.validations.time.ValidationClock;
+
+public class ColumnarValidator {
+
+    private final List<ColumnRule> rules = new ArrayList<ColumnRule>();
+    private Whitespace whitespace = Whitespace.TRIM;
+
+    public ColumnarValidator withWhitespace(Whitespace whitespace) {
+        this.whitespace = whitespace;
+        return this;
+    }
+
+    public ColumnarValidator isBetween(String column, int from, int to, String message) {
+        return add(column, message, (batch, failures) -> setOutside(batch.ints(column), from, to, failures));
+    }
+
+    public ColumnarValidator isBetween(String column, long from, long to, String message) {
+        return add(column, message, (batch, failures) -> setOutside(batch.longs(column), from, to, failures));
+    }
+
+    public ColumnarValidator isBetween(String column, double from, double to, String message) {
+        return add(column, message, (batch, failures) -> setOutside(batch.doubles(column), from, to, failures));
+    }
+
+    public ColumnarValidator isNotNullOrEmpty(String column, String message) {
+        return texts(column, message, val -> !CharSequences.isBlank(val, this.whitespace));
+    }
+
+    public ColumnarValidator hasMaxLen(String column, int max, String message) {
+        return texts(column, message, val -> !CharSequences.isBlank(val, this.whitespace) && val.length() <= max);
+    }
+
+    public ColumnarValidator isEmail(String column, String message) {
+        return texts(column, message, CharSequences::isEmail);
+    }
+
+    public ColumnarValidator isDigit(String column, String message) {
+        return texts(column, message, CharSequences::isDigits);
+    }
+
+    public ColumnarValidator matchsAny(String column, PatternSet patterns, String message) {
+        return texts(column, message, patterns::matches);
+    }
+
+    public ColumnarValidator isIn(String column, StringSet set, String message) {
+        return texts(column, message, set::contains);
+    }
+
+    public ColumnarValidator isNotInFuture(String column, EpochUnit unit, String message) {
+        return add(column, message, (batch, failures) -> {
+            long now = unit.isInstant() ? unit.fromInstant(ValidationClock.get().instant()) : ValidationClock.today();
+            setOutside(batch.longs(column), Long.MIN_VALUE, now, failures);
+        });
+    }
+
+    public ColumnarValidator isBetween(String column, TimeWindow window, EpochUnit unit, String message) {
+        return add(column, message, (batch, failures) -> {
+            long[] vals = batch.longs(column);
+            for (int row = 0; row < vals.length; row++) {
+                if (!window.contains(vals[row], unit))
+                    RowBitmap.set(failures, row);
+            }
+        });
+    }
+
+    public ColumnarValidator rule(String property, IntPredicate row, String message) {
+        return add(property, message, (batch, failures) -> {
+            for (int i = 0, rows = batch.getRowCount(); i < rows; i++) {
+                if (!row.test(i))
+                    RowBitmap.set(failures, i);
+            }
+        });
+    }
+
+    public ColumnarValidation validate(ColumnBatch batch) {
+        RowBitmap[] failures = new RowBitmap[this.rules.size()];
+        long[] words = RowBitmap.words(batch.getRowCount());
+        for (int i = 0; i < failures.length; i++) {
+            if (i > 0)
+                Arrays.fill(words, 0L);
+
+            this.rules.get(i).evaluate(batch, words);
+            failures[i] = RowBitmap.of(words, batch.getRowCount());
+        }
+        return new ColumnarValidation(batch.getRowCount(), this.rules, failures);
+    }
+
+    private ColumnarValidator texts(String column, String message, Predicate<CharSequence> valid) {
+        return add(column, message, (batch, failures) -> {
+            CharSequence[] vals = batch.texts(column);
+            for (int row = 0; row < vals.length; row++) {
+                if (vals[row] == null || !valid.test(vals[row]))
+                    RowBitmap.set(failures, row);
+            }
+        });
+    }
+
+    private ColumnarValidator add(String property, String message, ColumnRule.Kernel kernel) {
+        this.rules.add(new ColumnRule(property, message, kernel));
+        return this;
+    }
+
+    private static void setOutside(int[] vals, int from, int to, long[] failures) {
+        for (int row = ColumnRanges.nextOutside(vals, 0, from, to); row >= 0; row = ColumnRanges.nextOutside(vals, row + 1, from, to)) {
+            RowBitmap.set(failures, row);
+        }
+    }
+
+    private static void setOutside(long[] vals, long from, long to, long[] failures) {
+        for (int row = ColumnRanges.nextOutside(vals, 0, from, to); row >= 0; row = ColumnRanges.nextOutside(vals, row + 1, from, to)) {
+            RowBitmap.set(failures, row);
+        }
+    }
+
+    private static void setOutside(double[] vals, double from, double to, long[] failures) {
+        for (int row = ColumnRanges.nextOutside(vals, 0, from, to); row >= 0; row = ColumnRanges.nextOutside(vals, row + 1, from, to)) {
+            RowBitmap.set(failures, row);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package jflunt.validations.columns;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public final class RowBitmap {
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_WORDS = (1 << CHUNK_BITS) >>> 6;
+    private static final int SPARSE_LIMIT = 4096;
+
+    private final int rows;
+    private final int cardinality;
+    private final int[] chunks;
+    private final Object[] containers;
+
+    private RowBitmap(int rows, int cardinality, int[] chunks, Object[] containers) {
+        this.rows = rows;
+        this.cardinality = cardinality;
+        this.chunks = chunks;
+        this.containers = containers;
+    }
+
+    static long[] words(int rows) {
+        return new long[(rows + 63) >>> 6];
+    }
+
+    static void set(long[] words, int row) {
+        words[row >>> 6] |= 1L << row;
+    }
+
+    static RowBitmap of(long[] words, int rows) {
+        int chunkCount = (words.length + CHUNK_WORDS - 1) / CHUNK_WORDS;
+        int[] chunks = new int[chunkCount];
+        Object[] containers = new Object[chunkCount];
+        int used = 0;
+        int cardinality = 0;
+
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = chunk * CHUNK_WORDS;
+            int to = Math.min(words.length, from + CHUNK_WORDS);
+
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                count += Long.bitCount(words[i]);
+            }
+            if (count == 0)
+                continue;
+
+            chunks[used] = chunk;
+            containers[used++] = count < SPARSE_LIMIT ? sparse(words, from, to, count) : Arrays.copyOfRange(words, from, from + CHUNK_WORDS);
+            cardinality += count;
+        }
+        return new RowBitmap(rows, cardinality, Arrays.copyOf(chunks, used), Arrays.copyOf(containers, used));
+    }
+
+    static RowBitmap union(int rows, RowBitmap... bitmaps) {
+        long[] words = words(rows);
+        for (RowBitmap bitmap : bitmaps) {
+            bitmap.orInto(words);
+        }
+        return of(words, rows);
+    }
+
+    public int getRowCount() {
+        return this.rows;
+    }
+
+    public boolean get(int row) {
+        if (row < 0 || row >= this.rows)
+            throw new IndexOutOfBoundsException("Row " + row + " outside batch of " + this.rows);
+
+        int index = Arrays.binarySearch(this.chunks, row >>> CHUNK_BITS);
+        if (index < 0)
+            return false;
+
+        Object container = this.containers[index];
+        if (container instanceof char[])
+            return Arrays.binarySearch((char[]) container, (char) row) >= 0;
+
+        long[] dense = (long[]) container;
+        return (dense[(row >>> 6) & (CHUNK_WORDS - 1)] & (1L << row)) != 0;
+    }
+
+    public boolean isEmpty() {
+        return this.cardinality == 0;
+    }
+
+    public int cardinality() {
+        return this.cardinality;
+    }
+
+    public int nextSetBit(int from) {
+        if (from < 0)
+            from = 0;
+        if (from >= this.rows)
+            return -1;
+
+        int index = Arrays.binarySearch(this.chunks, from >>> CHUNK_BITS);
+        if (index < 0) {
+            index = -index - 1;
+            from = 0;
+        } else {
+            from &= (1 << CHUNK_BITS) - 1;
+        }
+
+        for (; index < this.chunks.length; index++, from = 0) {
+            int low = nextInContainer(this.containers[index], from);
+            if (low >= 0)
+                return this.chunks[index] << CHUNK_BITS | low;
+        }
+        return -1;
+    }
+
+    public int[] toArray() {
+        int[] rows = new int[this.cardinality];
+        int count = 0;
+        for (int row = nextSetBit(0); row >= 0; row = nextSetBit(row + 1)) {
+            rows[count++] = row;
+        }
+        return rows;
+    }
+
+    public BitSet toBitSet() {
+        long[] words = words(this.rows);
+        orInto(words);
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof RowBitmap))
+            return false;
+
+        RowBitmap bitmap = (RowBitmap) other;
+        return this.rows == bitmap.rows && Arrays.equals(toArray(), bitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.rows + Arrays.hashCode(toArray());
+    }
+
+    private void orInto(long[] words) {
+        for (int index = 0; index < this.chunks.length; index++) {
+            int base = this.chunks[index] * CHUNK_WORDS;
+            Object container = this.containers[index];
+            if (container instanceof char[]) {
+                for (char low : (char[]) container) {
+                    words[base + (low >>> 6)] |= 1L << low;
+                }
+            } else {
+                long[] dense = (long[]) container;
+                for (int i = 0, length = Math.min(CHUNK_WORDS, words.length - base); i < length; i++) {
+                    words[base + i] |= dense[i];
+                }
+            }
+        }
+    }
+
+    private static char[] sparse(long[] words, int from, int to, int count) {
+        char[] rows = new char[count];
+        int used = 0;
+        for (int i = from; i < to; i++) {
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                rows[used++] = (char) (((i - from) << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+        return rows;
+    }
+
+    private static int nextInContainer(Object container, int from) {
+        if (container instanceof char[]) {
+            char[] sparse = (char[]) container;
+            int index = Arrays.binarySearch(sparse, (char) from);
+            if (index < 0)
+                index = -index - 1;
+            return index < sparse.length ? sparse[index] : -1;
+        }
+
+        long[] dense = (long[]) container;
+        int index = from >>> 6;
+        long word = dense[index] & (-1L << from);
+        while (word == 0) {
+            if (++index == dense.length)
+                return -1;
+            word = dense[index];
+        }
+        return (index << 6) + Long.numberOfTrailingZeros(word);
+    }
+}
@@ -0,0 +1,70 @@
+package jflunt.validations.membership;
+
+public class BloomFilter {
+
+    private final long[] bits;
+    private final long size;
+    private final int hashes;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+
+        long expected = Math.max(1, expectedInsertions);
+        long size = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        size = Math.max(64, (size + 63) & ~63L);
+
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, size >>> 6)];
+        this.size = (long) this.bits.length << 6;
+        this.hashes = Math.max(1, (int) Math.round((double) this.size / expected * Math.log(2)));
+    }
+
+    public static long hash(long val) {
+        long h = val;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public static long hash(long high, long low) {
+        return hash(high ^ hash(low));
+    }
+
+    public static long hash(CharSequence val) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0, length = val.length(); i < length; i++) {
+            h ^= val.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return hash(h);
+    }
+
+    public int getHashes() {
+        return this.hashes;
+    }
+
+    public void put(long hash) {
+        long combined = hash;
+        long step = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = (combined & Long.MAX_VALUE) % this.size;
+            this.bits[(int) (bit >>> 6)] |= 1L << bit;
+            combined += step;
+        }
+    }
+
+    public boolean mightContain(long hash) {
+        long combined = hash;
+        long step = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = (combined & Long.MAX_VALUE) % this.size;
+            if ((this.bits[(int) (bit >>> 6)] & (1L << bit)) == 0)
+                return false;
+            combined += step;
+        }
+        return true;
+    }
+}
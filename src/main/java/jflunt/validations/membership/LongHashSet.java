@@ -0,0 +1,102 @@
+package jflunt.validations.membership;
+
+import java.util.function.LongConsumer;
+
+public class LongHashSet implements LongSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private boolean containsEmpty;
+    private int size;
+    private int mask;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) Math.min(1 << 30, expectedSize * 2L)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static LongHashSet of(long... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long val : values) {
+            set.add(val);
+        }
+        return set;
+    }
+
+    public static LongHashSet of(int... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (int val : values) {
+            set.add(val);
+        }
+        return set;
+    }
+
+    public boolean add(long val) {
+        if (val == EMPTY) {
+            boolean added = !this.containsEmpty;
+            this.containsEmpty = true;
+            if (added)
+                this.size++;
+            return added;
+        }
+
+        int index = indexOf(val);
+        if (this.keys[index] == val)
+            return false;
+
+        this.keys[index] = val;
+        this.size++;
+        if (this.size * 2 > this.keys.length)
+            rehash(this.keys.length << 1);
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(long val) {
+        if (val == EMPTY)
+            return this.containsEmpty;
+
+        return this.keys[indexOf(val)] == val;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        if (this.containsEmpty)
+            action.accept(EMPTY);
+
+        for (long key : this.keys) {
+            if (key != EMPTY)
+                action.accept(key);
+        }
+    }
+
+    private int indexOf(long val) {
+        int index = (int) BloomFilter.hash(val) & this.mask;
+        while (this.keys[index] != EMPTY && this.keys[index] != val) {
+            index = (index + 1) & this.mask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = this.keys;
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+        for (long key : old) {
+            if (key != EMPTY)
+                this.keys[indexOf(key)] = key;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package jflunt.validations.membership;
+
+import java.util.function.LongConsumer;
+
+public interface LongSet {
+
+    boolean contains(long val);
+
+    int size();
+
+    void forEach(LongConsumer action);
+
+    default LongSet withBloomFilter(double falsePositiveRate) {
+        BloomFilter filter = new BloomFilter(size(), falsePositiveRate);
+        forEach(val -> filter.put(BloomFilter.hash(val)));
+
+        LongSet set = this;
+        return new LongSet() {
+            @Override
+            public boolean contains(long val) {
+                return filter.mightContain(BloomFilter.hash(val)) && set.contains(val);
+            }
+
+            @Override
+            public int size() {
+                return set.size();
+            }
+
+            @Override
+            public void forEach(LongConsumer action) {
+                set.forEach(action);
+            }
+        };
+    }
+}
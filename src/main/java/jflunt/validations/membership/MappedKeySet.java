@@ -0,0 +1,178 @@
+package jflunt.validations.membership;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+public class MappedKeySet implements AutoCloseable {
+
+    static final int MAGIC = 0x4A464B53;
+    static final int HEADER_SIZE = 16;
+
+    public enum Kind {
+        LONG(8), UUID(16), STRING(16);
+
+        private final int width;
+
+        Kind(int width) {
+            this.width = width;
+        }
+
+        public int getWidth() {
+            return this.width;
+        }
+    }
+
+    private final FileChannel channel;
+    private final Kind kind;
+    private final long size;
+    private final int recordsPerSegment;
+    private final ByteBuffer[] segments;
+
+    private MappedKeySet(FileChannel channel, Kind kind, long size, int recordsPerSegment, ByteBuffer[] segments) {
+        this.channel = channel;
+        this.kind = kind;
+        this.size = size;
+        this.recordsPerSegment = recordsPerSegment;
+        this.segments = segments;
+    }
+
+    public static MappedKeySet open(Path path) throws IOException {
+        return open(path, Integer.MAX_VALUE);
+    }
+
+    static MappedKeySet open(Path path, int maxSegmentBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() < HEADER_SIZE)
+                throw new IOException("Not a key set file: " + path);
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC)
+                throw new IOException("Not a key set file: " + path);
+
+            int ordinal = header.getInt(4);
+            if (ordinal < 0 || ordinal >= Kind.values().length)
+                throw new IOException("Unknown key kind " + ordinal + " in " + path);
+
+            Kind kind = Kind.values()[ordinal];
+            long size = header.getLong(8);
+            if (size < 0 || channel.size() != HEADER_SIZE + size * kind.getWidth())
+                throw new IOException("Truncated key set file: " + path);
+
+            int recordsPerSegment = Math.max(1, maxSegmentBytes / kind.getWidth());
+            ByteBuffer[] segments = new ByteBuffer[(int) ((size + recordsPerSegment - 1) / recordsPerSegment)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, size - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * kind.getWidth(), records * kind.getWidth());
+            }
+            return new MappedKeySet(channel, kind, size, recordsPerSegment, segments);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    public long size() {
+        return this.size;
+    }
+
+    public boolean contains(long val) {
+        requireKind(Kind.LONG);
+        return search(val, 0L);
+    }
+
+    public boolean contains(UUID val) {
+        requireKind(Kind.UUID);
+        return val != null && search(val.getMostSignificantBits(), val.getLeastSignificantBits());
+    }
+
+    public boolean contains(long mostSigBits, long leastSigBits) {
+        requireKind(Kind.UUID);
+        return search(mostSigBits, leastSigBits);
+    }
+
+    public boolean contains(CharSequence val) {
+        requireKind(Kind.STRING);
+        return val != null && search(BloomFilter.hash(val), secondaryHash(val));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    static long secondaryHash(CharSequence val) {
+        long h = 0x9e3779b97f4a7c15L ^ val.length();
+        for (int i = 0, length = val.length(); i < length; i++) {
+            h = (h ^ val.charAt(i)) * 0xbf58476d1ce4e5b9L;
+            h ^= h >>> 31;
+        }
+        return BloomFilter.hash(h);
+    }
+
+    private void requireKind(Kind expected) {
+        if (this.kind != expected)
+            throw new IllegalStateException("Key set holds " + this.kind + " keys, not " + expected);
+    }
+
+    private boolean search(long high, long low) {
+        long first = 0;
+        long last = this.size - 1;
+
+        if (this.kind == Kind.LONG) {
+            for (int probes = 0; probes < 8 && first < last; probes++) {
+                long lowest = highAt(first);
+                long highest = highAt(last);
+                if (high < lowest || high > highest)
+                    return false;
+                if (lowest == highest)
+                    break;
+
+                double fraction = ((double) high - lowest) / ((double) highest - lowest);
+                long index = first + (long) (fraction * (last - first));
+                int result = compareAt(index, high, low);
+                if (result == 0)
+                    return true;
+                if (result < 0)
+                    first = index + 1;
+                else
+                    last = index - 1;
+            }
+        }
+
+        while (first <= last) {
+            long middle = (first + last) >>> 1;
+            int result = compareAt(middle, high, low);
+            if (result < 0)
+                first = middle + 1;
+            else if (result > 0)
+                last = middle - 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    private long highAt(long index) {
+        return this.segments[(int) (index / this.recordsPerSegment)].getLong((int) (index % this.recordsPerSegment) * this.kind.getWidth());
+    }
+
+    private int compareAt(long index, long high, long low) {
+        ByteBuffer segment = this.segments[(int) (index / this.recordsPerSegment)];
+        int offset = (int) (index % this.recordsPerSegment) * this.kind.getWidth();
+        int result = Long.compare(segment.getLong(offset), high);
+        if (result != 0 || this.kind == Kind.LONG)
+            return result;
+
+        return Long.compare(segment.getLong(offset + 8), low);
+    }
+}
@@ -0,0 +1,204 @@
+package jflunt.validations.membership;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.UUID;
+
+import jflunt.validations.membership.MappedKeySet.Kind;
+
+public class MappedKeySetBuilder {
+
+    private final Kind kind;
+    private long[] keys = new long[1024];
+    private int length;
+
+    public MappedKeySetBuilder(Kind kind) {
+        this.kind = kind;
+    }
+
+    public MappedKeySetBuilder add(long val) {
+        requireKind(Kind.LONG);
+        append(val, 0L);
+        return this;
+    }
+
+    public MappedKeySetBuilder add(UUID val) {
+        requireKind(Kind.UUID);
+        append(val.getMostSignificantBits(), val.getLeastSignificantBits());
+        return this;
+    }
+
+    public MappedKeySetBuilder add(CharSequence val) {
+        requireKind(Kind.STRING);
+        append(BloomFilter.hash(val), MappedKeySet.secondaryHash(val));
+        return this;
+    }
+
+    public MappedKeySetBuilder addLine(String line) {
+        String val = line.trim();
+        if (val.isEmpty() || val.startsWith("#"))
+            return this;
+
+        switch (this.kind) {
+            case LONG:
+                return add(Long.parseLong(val));
+            case UUID:
+                return add(UUID.fromString(val));
+            default:
+                return add(val);
+        }
+    }
+
+    public MappedKeySetBuilder addLines(Path source) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                addLine(line);
+            }
+        }
+        return this;
+    }
+
+    public long writeTo(Path target) throws IOException {
+        int words = words();
+        int count = sortAndDistinct(words);
+
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putInt(MappedKeySet.MAGIC).putInt(this.kind.ordinal()).putLong(count);
+            for (int i = 0; i < count * words; i++) {
+                if (!buffer.hasRemaining()) {
+                    flush(channel, buffer);
+                }
+                buffer.putLong(this.keys[i]);
+            }
+            flush(channel, buffer);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: MappedKeySetBuilder <long|uuid|string> <source.txt> <target>");
+            System.exit(2);
+        }
+
+        long count = new MappedKeySetBuilder(Kind.valueOf(args[0].toUpperCase()))
+            .addLines(Paths.get(args[1]))
+            .writeTo(Paths.get(args[2]));
+
+        System.out.println(count + " keys written to " + args[2]);
+    }
+
+    private void requireKind(Kind expected) {
+        if (this.kind != expected)
+            throw new IllegalStateException("Builder holds " + this.kind + " keys, not " + expected);
+    }
+
+    private int words() {
+        return this.kind.getWidth() / 8;
+    }
+
+    private void append(long high, long low) {
+        int words = words();
+        if (this.length + words > this.keys.length)
+            this.keys = Arrays.copyOf(this.keys, this.keys.length * 2);
+
+        this.keys[this.length++] = high;
+        if (words == 2)
+            this.keys[this.length++] = low;
+    }
+
+    private int sortAndDistinct(int words) {
+        int count = this.length / words;
+        if (words == 1)
+            Arrays.sort(this.keys, 0, count);
+        else
+            sortPairs(this.keys, 0, count - 1);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct > 0 && sameAs(distinct - 1, i, words))
+                continue;
+
+            System.arraycopy(this.keys, i * words, this.keys, distinct * words, words);
+            distinct++;
+        }
+        this.length = distinct * words;
+        return distinct;
+    }
+
+    private boolean sameAs(int a, int b, int words) {
+        for (int i = 0; i < words; i++) {
+            if (this.keys[a * words + i] != this.keys[b * words + i])
+                return false;
+        }
+        return true;
+    }
+
+    private static void sortPairs(long[] keys, int first, int last) {
+        while (last - first > 16) {
+            int middle = (first + last) >>> 1;
+            long pivotHigh = keys[middle * 2];
+            long pivotLow = keys[middle * 2 + 1];
+            int i = first;
+            int j = last;
+            while (i <= j) {
+                while (UuidSet.compare(keys[i * 2], keys[i * 2 + 1], pivotHigh, pivotLow) < 0) {
+                    i++;
+                }
+                while (UuidSet.compare(keys[j * 2], keys[j * 2 + 1], pivotHigh, pivotLow) > 0) {
+                    j--;
+                }
+                if (i <= j)
+                    swapPairs(keys, i++, j--);
+            }
+            if (j - first < last - i) {
+                sortPairs(keys, first, j);
+                first = i;
+            } else {
+                sortPairs(keys, i, last);
+                last = j;
+            }
+        }
+
+        for (int i = first + 1; i <= last; i++) {
+            for (int j = i; j > first && UuidSet.compare(keys[j * 2 - 2], keys[j * 2 - 1], keys[j * 2], keys[j * 2 + 1]) > 0; j--) {
+                swapPairs(keys, j - 1, j);
+            }
+        }
+    }
+
+    private static void swapPairs(long[] keys, int a, int b) {
+        long high = keys[a * 2];
+        long low = keys[a * 2 + 1];
+        keys[a * 2] = keys[b * 2];
+        keys[a * 2 + 1] = keys[b * 2 + 1];
+        keys[b * 2] = high;
+        keys[b * 2 + 1] = low;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        ((Buffer) buffer).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        ((Buffer) buffer).clear();
+    }
+}
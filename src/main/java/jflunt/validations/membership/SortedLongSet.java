@@ -0,0 +1,42 @@
+package jflunt.validations.membership;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+public class SortedLongSet implements LongSet {
+
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static SortedLongSet of(long... values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i])
+                sorted[size++] = sorted[i];
+        }
+        return new SortedLongSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    @Override
+    public boolean contains(long val) {
+        return Arrays.binarySearch(this.values, val) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return this.values.length;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (long val : this.values) {
+            action.accept(val);
+        }
+    }
+}
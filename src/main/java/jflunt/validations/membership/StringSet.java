@@ -0,0 +1,78 @@
+package jflunt.validations.membership;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+public class StringSet {
+
+    private final String[] values;
+    private final BloomFilter filter;
+
+    private StringSet(String[] values, BloomFilter filter) {
+        this.values = values;
+        this.filter = filter;
+    }
+
+    public static StringSet of(String... values) {
+        return of(Arrays.asList(values));
+    }
+
+    public static StringSet of(Collection<? extends CharSequence> values) {
+        String[] sorted = new String[values.size()];
+        int index = 0;
+        for (CharSequence val : values) {
+            sorted[index++] = val.toString();
+        }
+        Arrays.sort(sorted);
+
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || !sorted[size - 1].equals(sorted[i]))
+                sorted[size++] = sorted[i];
+        }
+        return new StringSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size), null);
+    }
+
+    public StringSet withBloomFilter(double falsePositiveRate) {
+        BloomFilter filter = new BloomFilter(size(), falsePositiveRate);
+        for (String val : this.values) {
+            filter.put(BloomFilter.hash(val));
+        }
+        return new StringSet(this.values, filter);
+    }
+
+    public int size() {
+        return this.values.length;
+    }
+
+    public boolean contains(CharSequence val) {
+        if (val == null)
+            return false;
+        if (this.filter != null && !this.filter.mightContain(BloomFilter.hash(val)))
+            return false;
+
+        int low = 0;
+        int high = this.values.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = compare(this.values[middle], val);
+            if (result < 0)
+                low = middle + 1;
+            else if (result > 0)
+                high = middle - 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    private static int compare(String a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            int result = a.charAt(i) - b.charAt(i);
+            if (result != 0)
+                return result;
+        }
+        return a.length() - b.length();
+    }
+}
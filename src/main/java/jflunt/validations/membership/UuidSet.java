@@ -0,0 +1,77 @@
+package jflunt.validations.membership;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+public class UuidSet {
+
+    private final long[] bits;
+    private final BloomFilter filter;
+
+    private UuidSet(long[] bits, BloomFilter filter) {
+        this.bits = bits;
+        this.filter = filter;
+    }
+
+    public static UuidSet of(Collection<UUID> uuids) {
+        UUID[] sorted = uuids.toArray(new UUID[uuids.size()]);
+        Arrays.sort(sorted, UuidSet::compare);
+
+        long[] bits = new long[sorted.length * 2];
+        int size = 0;
+        for (UUID uuid : sorted) {
+            long most = uuid.getMostSignificantBits();
+            long least = uuid.getLeastSignificantBits();
+            if (size == 0 || bits[size - 2] != most || bits[size - 1] != least) {
+                bits[size++] = most;
+                bits[size++] = least;
+            }
+        }
+        return new UuidSet(size == bits.length ? bits : Arrays.copyOf(bits, size), null);
+    }
+
+    public UuidSet withBloomFilter(double falsePositiveRate) {
+        BloomFilter filter = new BloomFilter(size(), falsePositiveRate);
+        for (int i = 0; i < this.bits.length; i += 2) {
+            filter.put(BloomFilter.hash(this.bits[i], this.bits[i + 1]));
+        }
+        return new UuidSet(this.bits, filter);
+    }
+
+    public int size() {
+        return this.bits.length / 2;
+    }
+
+    public boolean contains(UUID val) {
+        return val != null && contains(val.getMostSignificantBits(), val.getLeastSignificantBits());
+    }
+
+    public boolean contains(long mostSigBits, long leastSigBits) {
+        if (this.filter != null && !this.filter.mightContain(BloomFilter.hash(mostSigBits, leastSigBits)))
+            return false;
+
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = compare(this.bits[middle * 2], this.bits[middle * 2 + 1], mostSigBits, leastSigBits);
+            if (result < 0)
+                low = middle + 1;
+            else if (result > 0)
+                high = middle - 1;
+            else
+                return true;
+        }
+        return false;
+    }
+
+    static int compare(UUID a, UUID b) {
+        return compare(a.getMostSignificantBits(), a.getLeastSignificantBits(), b.getMostSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    static int compare(long mostA, long leastA, long mostB, long leastB) {
+        int result = Long.compare(mostA, mostB);
+        return result != 0 ? result : Long.compare(leastA, leastB);
+    }
+}
@@ -0,0 +1,46 @@
+package jflunt.validations.text;
+
+import java.nio.ByteBuffer;
+
+class AsciiView implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    AsciiView(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", length: " + this.length);
+
+        return (char) (this.buffer.get(this.offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length || start > end)
+            throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end + ", length: " + this.length);
+
+        return new AsciiView(this.buffer, this.offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(this.length);
+        for (int i = 0; i < this.length; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package jflunt.validations.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedSet;
+
+class CharRanges {
+
+    static final int MAX = Character.MAX_VALUE;
+
+    private final int[] bounds;
+
+    private CharRanges(int[] bounds) {
+        this.bounds = bounds;
+    }
+
+    static CharRanges of(int lo, int hi) {
+        return new CharRanges(new int[] { lo, hi });
+    }
+
+    static CharRanges single(int c) {
+        return of(c, c);
+    }
+
+    static CharRanges union(List<CharRanges> sets) {
+        List<int[]> ranges = new ArrayList<int[]>();
+        for (CharRanges set : sets) {
+            for (int i = 0; i < set.bounds.length; i += 2) {
+                ranges.add(new int[] { set.bounds[i], set.bounds[i + 1] });
+            }
+        }
+        ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+
+        int[] merged = new int[ranges.size() * 2];
+        int size = 0;
+        for (int[] range : ranges) {
+            if (size > 0 && range[0] <= merged[size - 1] + 1) {
+                merged[size - 1] = Math.max(merged[size - 1], range[1]);
+            } else {
+                merged[size++] = range[0];
+                merged[size++] = range[1];
+            }
+        }
+        return new CharRanges(Arrays.copyOf(merged, size));
+    }
+
+    CharRanges complement() {
+        int[] result = new int[this.bounds.length + 2];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            if (this.bounds[i] > next) {
+                result[size++] = next;
+                result[size++] = this.bounds[i] - 1;
+            }
+            next = this.bounds[i + 1] + 1;
+        }
+        if (next <= MAX) {
+            result[size++] = next;
+            result[size++] = MAX;
+        }
+        return new CharRanges(Arrays.copyOf(result, size));
+    }
+
+    int single() {
+        return this.bounds.length == 2 && this.bounds[0] == this.bounds[1] ? this.bounds[0] : -1;
+    }
+
+    boolean contains(int c) {
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            if (c < this.bounds[i])
+                return false;
+            if (c <= this.bounds[i + 1])
+                return true;
+        }
+        return false;
+    }
+
+    void addBoundaries(SortedSet<Integer> points) {
+        for (int i = 0; i < this.bounds.length; i += 2) {
+            points.add(this.bounds[i]);
+            if (this.bounds[i + 1] < MAX)
+                points.add(this.bounds[i + 1] + 1);
+        }
+    }
+}
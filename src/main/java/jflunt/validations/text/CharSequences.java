@@ -0,0 +1,97 @@
+package jflunt.validations.text;
+
+public final class CharSequences {
+
+    private CharSequences() {
+    }
+
+    public static boolean isBlank(CharSequence val) {
+        for (int i = 0, length = val.length(); i < length; i++) {
+            if (val.charAt(i) > ' ')
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isBlank(CharSequence val, Whitespace whitespace) {
+        if (whitespace == Whitespace.TRIM)
+            return isBlank(val);
+
+        for (int i = 0, length = val.length(); i < length; i++) {
+            if (!whitespace.isWhitespace(val.charAt(i)))
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isDigits(CharSequence val) {
+        int length = val.length();
+        if (length == 0)
+            return false;
+
+        for (int i = 0; i < length; i++) {
+            char c = val.charAt(i);
+            if (c < '0' || c > '9')
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isEmail(CharSequence val) {
+        int length = val.length();
+
+        int i = skipWord(val, 0, length);
+        while (i >= 0 && i < length && isLocalSeparator(val.charAt(i))) {
+            i = skipWord(val, i + 1, length);
+        }
+
+        if (i < 0 || i >= length || val.charAt(i) != '@')
+            return false;
+
+        boolean dotted = false;
+        i = skipWord(val, i + 1, length);
+        while (i >= 0 && i < length) {
+            char c = val.charAt(i);
+            if (c != '-' && c != '.')
+                return false;
+
+            dotted |= c == '.';
+            i = skipWord(val, i + 1, length);
+        }
+
+        return i >= 0 && dotted;
+    }
+
+    public static boolean contains(CharSequence val, CharSequence text) {
+        if (val instanceof String && text instanceof String)
+            return ((String) val).contains((String) text);
+
+        int length = val.length();
+        int textLength = text.length();
+        for (int i = 0; i <= length - textLength; i++) {
+            int j = 0;
+            while (j < textLength && val.charAt(i + j) == text.charAt(j)) {
+                j++;
+            }
+            if (j == textLength)
+                return true;
+        }
+        return false;
+    }
+
+    static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    static boolean isLocalSeparator(char c) {
+        return c == '-' || c == '+' || c == '.' || c == '\'';
+    }
+
+    private static int skipWord(CharSequence val, int start, int length) {
+        int i = start;
+        while (i < length && isWordChar(val.charAt(i))) {
+            i++;
+        }
+        return i > start ? i : -1;
+    }
+}
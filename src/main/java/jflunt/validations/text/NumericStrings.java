@@ -0,0 +1,83 @@
+package jflunt.validations.text;
+
+public final class NumericStrings {
+
+    private NumericStrings() {
+    }
+
+    public static boolean isInteger(CharSequence val) {
+        return isIntegerInRange(val, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public static boolean isIntegerInRange(CharSequence val, long min, long max) {
+        if (val == null)
+            return false;
+
+        int length = val.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (val.charAt(0) == '-' || val.charAt(0) == '+')) {
+            negative = val.charAt(0) == '-';
+            i++;
+        }
+        if (i == length)
+            return false;
+
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = val.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return false;
+            if (result < multiplicationLimit)
+                return false;
+
+            result *= 10;
+            if (result < limit + digit)
+                return false;
+
+            result -= digit;
+        }
+
+        long parsed = negative ? result : -result;
+        return parsed >= min && parsed <= max;
+    }
+
+    public static boolean isDecimal(CharSequence val, int precision, int scale) {
+        if (precision < 1 || scale < 0 || scale > precision)
+            throw new IllegalArgumentException("Invalid precision " + precision + " and scale " + scale);
+
+        if (val == null)
+            return false;
+
+        int length = val.length();
+        int i = 0;
+        if (length > 0 && (val.charAt(0) == '-' || val.charAt(0) == '+'))
+            i++;
+
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean digits = false;
+        boolean point = false;
+        for (; i < length; i++) {
+            char c = val.charAt(i);
+            if (c == '.') {
+                if (point)
+                    return false;
+
+                point = true;
+            } else if (c >= '0' && c <= '9') {
+                digits = true;
+                if (point)
+                    fractionDigits++;
+                else if (integerDigits > 0 || c != '0')
+                    integerDigits++;
+            } else {
+                return false;
+            }
+        }
+
+        return digits && integerDigits <= precision - scale && fractionDigits <= scale;
+    }
+}
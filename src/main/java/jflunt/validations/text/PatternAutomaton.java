@@ -0,0 +1,155 @@
+package jflunt.validations.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+class PatternAutomaton {
+
+    private static final int MAX_STATES = 10000;
+    private static final int ASCII = 128;
+
+    private final int[] points;
+    private final int[] asciiClasses;
+    private final int classes;
+    private final int[] transitions;
+    private final int[] accepts;
+
+    private PatternAutomaton(int[] points, int[] transitions, int[] accepts) {
+        this.points = points;
+        this.classes = points.length;
+        this.transitions = transitions;
+        this.accepts = accepts;
+        this.asciiClasses = new int[ASCII];
+        for (int c = 0; c < ASCII; c++) {
+            this.asciiClasses[c] = search(c);
+        }
+    }
+
+    int match(CharSequence val) {
+        int state = 0;
+        for (int i = 0, length = val.length(); i < length; i++) {
+            char c = val.charAt(i);
+            state = this.transitions[state * this.classes + (c < ASCII ? this.asciiClasses[c] : search(c))];
+            if (state < 0)
+                return -1;
+        }
+        return this.accepts[state];
+    }
+
+    private int search(int c) {
+        int index = Arrays.binarySearch(this.points, c);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    static PatternAutomaton compile(PatternNfa nfa, int start) {
+        SortedSet<Integer> boundaries = new TreeSet<Integer>();
+        boundaries.add(0);
+        for (int state = 0; state < nfa.size(); state++) {
+            if (nfa.edgeOf(state) != null)
+                nfa.edgeOf(state).addBoundaries(boundaries);
+        }
+
+        int[] points = new int[boundaries.size()];
+        int index = 0;
+        for (int point : boundaries) {
+            points[index++] = point;
+        }
+
+        Map<BitSet, Integer> ids = new HashMap<BitSet, Integer>();
+        List<BitSet> states = new ArrayList<BitSet>();
+        Deque<Integer> pending = new ArrayDeque<Integer>();
+        List<int[]> rows = new ArrayList<int[]>();
+
+        BitSet initial = closure(nfa, single(start));
+        ids.put(initial, 0);
+        states.add(initial);
+        pending.add(0);
+
+        while (!pending.isEmpty()) {
+            int id = pending.poll();
+            BitSet current = states.get(id);
+            int[] row = new int[points.length];
+
+            for (int cls = 0; cls < points.length; cls++) {
+                BitSet next = new BitSet(nfa.size());
+                for (int state = current.nextSetBit(0); state >= 0; state = current.nextSetBit(state + 1)) {
+                    CharRanges edge = nfa.edgeOf(state);
+                    if (edge != null && edge.contains(points[cls]))
+                        next.set(nfa.targetOf(state));
+                }
+
+                if (next.isEmpty()) {
+                    row[cls] = -1;
+                    continue;
+                }
+
+                BitSet target = closure(nfa, next);
+                Integer targetId = ids.get(target);
+                if (targetId == null) {
+                    if (states.size() >= MAX_STATES)
+                        throw new IllegalArgumentException("Patterns are too complex to combine into a single automaton");
+
+                    targetId = states.size();
+                    ids.put(target, targetId);
+                    states.add(target);
+                    pending.add(targetId);
+                }
+                row[cls] = targetId;
+            }
+
+            while (rows.size() <= id) {
+                rows.add(null);
+            }
+            rows.set(id, row);
+        }
+
+        int[] transitions = new int[states.size() * points.length];
+        int[] accepts = new int[states.size()];
+        for (int id = 0; id < states.size(); id++) {
+            System.arraycopy(rows.get(id), 0, transitions, id * points.length, points.length);
+
+            int accept = -1;
+            BitSet set = states.get(id);
+            for (int state = set.nextSetBit(0); state >= 0; state = set.nextSetBit(state + 1)) {
+                int pattern = nfa.acceptOf(state);
+                if (pattern >= 0 && (accept < 0 || pattern < accept))
+                    accept = pattern;
+            }
+            accepts[id] = accept;
+        }
+
+        return new PatternAutomaton(points, transitions, accepts);
+    }
+
+    private static BitSet single(int state) {
+        BitSet set = new BitSet();
+        set.set(state);
+        return set;
+    }
+
+    private static BitSet closure(PatternNfa nfa, BitSet states) {
+        BitSet result = (BitSet) states.clone();
+        Deque<Integer> pending = new ArrayDeque<Integer>();
+        for (int state = states.nextSetBit(0); state >= 0; state = states.nextSetBit(state + 1)) {
+            pending.push(state);
+        }
+
+        while (!pending.isEmpty()) {
+            for (int next : nfa.epsilonsOf(pending.pop())) {
+                if (!result.get(next)) {
+                    result.set(next);
+                    pending.push(next);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package jflunt.validations.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class PatternNfa {
+
+    private final List<List<Integer>> epsilons;
+    private final List<CharRanges> edges;
+    private final List<Integer> targets;
+    private final List<Integer> accepts;
+
+    PatternNfa() {
+        this.epsilons = new ArrayList<List<Integer>>();
+        this.edges = new ArrayList<CharRanges>();
+        this.targets = new ArrayList<Integer>();
+        this.accepts = new ArrayList<Integer>();
+    }
+
+    int newState() {
+        this.epsilons.add(new ArrayList<Integer>(2));
+        this.edges.add(null);
+        this.targets.add(-1);
+        this.accepts.add(-1);
+        return this.epsilons.size() - 1;
+    }
+
+    void epsilon(int from, int to) {
+        this.epsilons.get(from).add(to);
+    }
+
+    void edge(int from, CharRanges set, int to) {
+        this.edges.set(from, set);
+        this.targets.set(from, to);
+    }
+
+    void accept(int state, int pattern) {
+        this.accepts.set(state, pattern);
+    }
+
+    int size() {
+        return this.epsilons.size();
+    }
+
+    List<Integer> epsilonsOf(int state) {
+        return this.epsilons.get(state);
+    }
+
+    CharRanges edgeOf(int state) {
+        return this.edges.get(state);
+    }
+
+    int targetOf(int state) {
+        return this.targets.get(state);
+    }
+
+    int acceptOf(int state) {
+        return this.accepts.get(state);
+    }
+}
@@ -0,0 +1,310 @@
+package jflunt.validations.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class PatternParser {
+
+    private static final int MAX_REPETITIONS = 1000;
+
+    private static final CharRanges DIGIT = CharRanges.of('0', '9');
+    private static final CharRanges WORD = CharRanges.union(Arrays.asList(
+        CharRanges.of('a', 'z'), CharRanges.of('A', 'Z'), CharRanges.of('0', '9'), CharRanges.single('_')));
+    private static final CharRanges SPACE = CharRanges.union(Arrays.asList(
+        CharRanges.single(' '), CharRanges.of('\t', '\r')));
+    private static final CharRanges DOT = CharRanges.union(Arrays.asList(
+        CharRanges.single('\n'), CharRanges.single('\r'), CharRanges.single('\u0085'), CharRanges.of('\u2028', '\u2029'))).complement();
+
+    private final PatternNfa nfa;
+    private final String pattern;
+    private int pos;
+
+    private PatternParser(PatternNfa nfa, String pattern) {
+        this.nfa = nfa;
+        this.pattern = pattern;
+    }
+
+    static int[] parse(PatternNfa nfa, String pattern) {
+        PatternParser parser = new PatternParser(nfa, pattern);
+        int[] fragment = parser.parseAlternation();
+        if (parser.pos < pattern.length())
+            throw parser.error("Unmatched ')'");
+
+        return fragment;
+    }
+
+    static int[] literal(PatternNfa nfa, String literal) {
+        int start = nfa.newState();
+        int end = start;
+        for (int i = 0; i < literal.length(); i++) {
+            int next = nfa.newState();
+            nfa.edge(end, CharRanges.single(literal.charAt(i)), next);
+            end = next;
+        }
+        return new int[] { start, end };
+    }
+
+    private int[] parseAlternation() {
+        int[] left = parseConcatenation();
+        while (has('|')) {
+            this.pos++;
+            int[] right = parseConcatenation();
+            int start = this.nfa.newState();
+            int end = this.nfa.newState();
+            this.nfa.epsilon(start, left[0]);
+            this.nfa.epsilon(start, right[0]);
+            this.nfa.epsilon(left[1], end);
+            this.nfa.epsilon(right[1], end);
+            left = new int[] { start, end };
+        }
+        return left;
+    }
+
+    private int[] parseConcatenation() {
+        int[] fragment = null;
+        while (this.pos < this.pattern.length() && !has('|') && !has(')')) {
+            int[] next = parseRepetition();
+            if (fragment == null) {
+                fragment = next;
+            } else {
+                this.nfa.epsilon(fragment[1], next[0]);
+                fragment = new int[] { fragment[0], next[1] };
+            }
+        }
+        return fragment != null ? fragment : empty();
+    }
+
+    private int[] parseRepetition() {
+        int atomStart = this.pos;
+        int[] atom = parseAtom();
+        int atomEnd = this.pos;
+
+        int min;
+        int max;
+        if (has('*')) {
+            min = 0;
+            max = -1;
+            this.pos++;
+        } else if (has('+')) {
+            min = 1;
+            max = -1;
+            this.pos++;
+        } else if (has('?')) {
+            min = 0;
+            max = 1;
+            this.pos++;
+        } else if (has('{')) {
+            this.pos++;
+            min = parseNumber();
+            max = min;
+            if (has(',')) {
+                this.pos++;
+                max = has('}') ? -1 : parseNumber();
+            }
+            expect('}');
+            if ((max != -1 && max < min) || Math.max(min, max) > MAX_REPETITIONS)
+                throw error("Invalid repetition range");
+        } else {
+            return atom;
+        }
+
+        if (has('?'))
+            this.pos++;
+        if (has('+'))
+            throw error("Possessive quantifiers are not supported");
+        if (has('*') || has('+') || has('?') || has('{'))
+            throw error("Dangling quantifier");
+
+        return repeat(atom, atomStart, atomEnd, min, max);
+    }
+
+    private int[] repeat(int[] atom, int atomStart, int atomEnd, int min, int max) {
+        int[] result = empty();
+        boolean first = true;
+        int copies = max == -1 ? min + 1 : max;
+
+        for (int i = 0; i < copies; i++) {
+            int[] copy = first ? atom : reparse(atomStart, atomEnd);
+            first = false;
+
+            if (i >= min) {
+                int start = this.nfa.newState();
+                int end = this.nfa.newState();
+                this.nfa.epsilon(start, copy[0]);
+                this.nfa.epsilon(start, end);
+                this.nfa.epsilon(copy[1], end);
+                if (max == -1)
+                    this.nfa.epsilon(copy[1], copy[0]);
+                copy = new int[] { start, end };
+            }
+
+            this.nfa.epsilon(result[1], copy[0]);
+            result = new int[] { result[0], copy[1] };
+        }
+        return result;
+    }
+
+    private int[] reparse(int atomStart, int atomEnd) {
+        int saved = this.pos;
+        this.pos = atomStart;
+        int[] copy = parseAtom();
+        if (this.pos != atomEnd)
+            throw error("Invalid repetition");
+
+        this.pos = saved;
+        return copy;
+    }
+
+    private int[] parseAtom() {
+        char c = this.pattern.charAt(this.pos);
+        switch (c) {
+            case '(':
+                this.pos++;
+                if (this.pattern.startsWith("?:", this.pos))
+                    this.pos += 2;
+                else if (has('?'))
+                    throw error("Only non-capturing groups are supported");
+
+                int[] group = parseAlternation();
+                expect(')');
+                return group;
+            case '[':
+                return edge(parseClass());
+            case '.':
+                this.pos++;
+                return edge(DOT);
+            case '\\':
+                return edge(parseEscape());
+            case '^':
+                if (this.pos != 0)
+                    throw error("'^' is only supported at the start of the pattern");
+                this.pos++;
+                return empty();
+            case '$':
+                if (this.pos != this.pattern.length() - 1)
+                    throw error("'$' is only supported at the end of the pattern");
+                this.pos++;
+                return empty();
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw error("Dangling quantifier");
+            default:
+                this.pos++;
+                return edge(CharRanges.single(c));
+        }
+    }
+
+    private CharRanges parseClass() {
+        this.pos++;
+        boolean negated = has('^');
+        if (negated)
+            this.pos++;
+
+        List<CharRanges> items = new ArrayList<CharRanges>();
+        while (!has(']')) {
+            if (this.pos >= this.pattern.length())
+                throw error("Unclosed character class");
+            if (has('[') || this.pattern.startsWith("&&", this.pos))
+                throw error("Nested classes and intersections are not supported");
+
+            CharRanges item = has('\\') ? parseEscape() : CharRanges.single(this.pattern.charAt(this.pos++));
+            int lo = item.single();
+
+            if (lo >= 0 && has('-') && this.pos + 1 < this.pattern.length() && this.pattern.charAt(this.pos + 1) != ']') {
+                this.pos++;
+                int hi = has('\\') ? parseEscape().single() : this.pattern.charAt(this.pos++);
+                if (hi < lo)
+                    throw error("Illegal character range");
+                item = CharRanges.of(lo, hi);
+            }
+            items.add(item);
+        }
+        this.pos++;
+
+        if (items.isEmpty())
+            throw error("Empty character class");
+
+        CharRanges set = CharRanges.union(items);
+        return negated ? set.complement() : set;
+    }
+
+    private CharRanges parseEscape() {
+        this.pos++;
+        if (this.pos >= this.pattern.length())
+            throw error("Unexpected end of pattern");
+
+        char c = this.pattern.charAt(this.pos++);
+        switch (c) {
+            case 'd': return DIGIT;
+            case 'D': return DIGIT.complement();
+            case 'w': return WORD;
+            case 'W': return WORD.complement();
+            case 's': return SPACE;
+            case 'S': return SPACE.complement();
+            case 't': return CharRanges.single('\t');
+            case 'n': return CharRanges.single('\n');
+            case 'r': return CharRanges.single('\r');
+            case 'f': return CharRanges.single('\f');
+            case 'u': return CharRanges.single(parseHex(4));
+            case 'x': return CharRanges.single(parseHex(2));
+            default:
+                if (Character.isLetterOrDigit(c))
+                    throw error("Unsupported escape '\\" + c + "'");
+                return CharRanges.single(c);
+        }
+    }
+
+    private int parseHex(int digits) {
+        if (this.pos + digits > this.pattern.length())
+            throw error("Invalid hexadecimal escape");
+
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int digit = Character.digit(this.pattern.charAt(this.pos++), 16);
+            if (digit < 0)
+                throw error("Invalid hexadecimal escape");
+            value = value * 16 + digit;
+        }
+        return value;
+    }
+
+    private int parseNumber() {
+        int start = this.pos;
+        while (this.pos < this.pattern.length() && Character.isDigit(this.pattern.charAt(this.pos))) {
+            this.pos++;
+        }
+        if (start == this.pos || this.pos - start > 4)
+            throw error("Invalid repetition range");
+
+        return Integer.parseInt(this.pattern.substring(start, this.pos));
+    }
+
+    private int[] edge(CharRanges set) {
+        int start = this.nfa.newState();
+        int end = this.nfa.newState();
+        this.nfa.edge(start, set, end);
+        return new int[] { start, end };
+    }
+
+    private int[] empty() {
+        int state = this.nfa.newState();
+        return new int[] { state, state };
+    }
+
+    private boolean has(char c) {
+        return this.pos < this.pattern.length() && this.pattern.charAt(this.pos) == c;
+    }
+
+    private void expect(char c) {
+        if (!has(c))
+            throw error("Expected '" + c + "'");
+        this.pos++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at index " + this.pos + " of pattern '" + this.pattern + "'");
+    }
+}
@@ -0,0 +1,96 @@
+package jflunt.validations.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PatternSet {
+
+    private final List<String> patterns;
+    private final List<Boolean> literals;
+    private volatile PatternAutomaton automaton;
+
+    public PatternSet() {
+        this.patterns = new ArrayList<String>();
+        this.literals = new ArrayList<Boolean>();
+    }
+
+    public static PatternSet of(String... patterns) {
+        PatternSet set = new PatternSet();
+        for (String pattern : patterns) {
+            set.add(pattern);
+        }
+        return set;
+    }
+
+    public static PatternSet ofLiterals(String... literals) {
+        PatternSet set = new PatternSet();
+        for (String literal : literals) {
+            set.addLiteral(literal);
+        }
+        return set;
+    }
+
+    public synchronized PatternSet add(String pattern) {
+        PatternParser.parse(new PatternNfa(), pattern);
+        return append(pattern, false);
+    }
+
+    public synchronized PatternSet addLiteral(String literal) {
+        return append(literal, true);
+    }
+
+    public int size() {
+        return this.patterns.size();
+    }
+
+    public List<String> getPatterns() {
+        return Collections.unmodifiableList(this.patterns);
+    }
+
+    public int match(CharSequence val) {
+        return val == null ? -1 : automaton().match(val);
+    }
+
+    public boolean matches(CharSequence val) {
+        return match(val) >= 0;
+    }
+
+    private PatternSet append(String pattern, boolean literal) {
+        if (pattern == null)
+            throw new IllegalArgumentException("Pattern must not be null");
+
+        this.patterns.add(pattern);
+        this.literals.add(literal);
+        this.automaton = null;
+        return this;
+    }
+
+    private PatternAutomaton automaton() {
+        PatternAutomaton automaton = this.automaton;
+        if (automaton == null) {
+            synchronized (this) {
+                automaton = this.automaton;
+                if (automaton == null) {
+                    automaton = compile();
+                    this.automaton = automaton;
+                }
+            }
+        }
+        return automaton;
+    }
+
+    private PatternAutomaton compile() {
+        PatternNfa nfa = new PatternNfa();
+        int start = nfa.newState();
+        for (int i = 0; i < this.patterns.size(); i++) {
+            int[] fragment = this.literals.get(i)
+                ? PatternParser.literal(nfa, this.patterns.get(i))
+                : PatternParser.parse(nfa, this.patterns.get(i));
+
+            nfa.epsilon(start, fragment[0]);
+            nfa.accept(fragment[1], i);
+        }
+        return PatternAutomaton.compile(nfa, start);
+    }
+}
@@ -0,0 +1,168 @@
+package jflunt.validations.text;
+
+import java.nio.ByteBuffer;
+
+public final class Utf8Buffers {
+
+    private Utf8Buffers() {
+    }
+
+    public static CharSequence ascii(ByteBuffer val) {
+        return new AsciiView(val, val.position(), val.remaining());
+    }
+
+    public static int length(ByteBuffer val) {
+        int length = 0;
+        for (int i = val.position(), limit = val.limit(); i < limit; i++) {
+            int b = val.get(i) & 0xFF;
+            if ((b & 0xC0) != 0x80)
+                length++;
+            if ((b & 0xF8) == 0xF0)
+                length++;
+        }
+        return length;
+    }
+
+    public static boolean isBlank(ByteBuffer val) {
+        for (int i = val.position(), limit = val.limit(); i < limit; i++) {
+            if ((val.get(i) & 0xFF) > ' ')
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isBlank(ByteBuffer val, Whitespace whitespace) {
+        if (whitespace == Whitespace.TRIM)
+            return isBlank(val);
+
+        int i = val.position();
+        int limit = val.limit();
+        while (i < limit) {
+            int b = val.get(i) & 0xFF;
+            int codePoint;
+            int size;
+            if (b < 0x80) {
+                codePoint = b;
+                size = 1;
+            } else if ((b & 0xE0) == 0xC0 && i + 1 < limit) {
+                codePoint = ((b & 0x1F) << 6) | (val.get(i + 1) & 0x3F);
+                size = 2;
+            } else if ((b & 0xF0) == 0xE0 && i + 2 < limit) {
+                codePoint = ((b & 0x0F) << 12) | ((val.get(i + 1) & 0x3F) << 6) | (val.get(i + 2) & 0x3F);
+                size = 3;
+            } else {
+                return false;
+            }
+
+            if (!whitespace.isWhitespace(codePoint))
+                return false;
+
+            i += size;
+        }
+        return true;
+    }
+
+    public static boolean isDigits(ByteBuffer val) {
+        int start = val.position();
+        int limit = val.limit();
+        if (start == limit)
+            return false;
+
+        for (int i = start; i < limit; i++) {
+            byte b = val.get(i);
+            if (b < '0' || b > '9')
+                return false;
+        }
+        return true;
+    }
+
+    public static boolean isEmail(ByteBuffer val) {
+        int limit = val.limit();
+
+        int i = skipWord(val, val.position(), limit);
+        while (i >= 0 && i < limit && CharSequences.isLocalSeparator(charAt(val, i))) {
+            i = skipWord(val, i + 1, limit);
+        }
+
+        if (i < 0 || i >= limit || val.get(i) != '@')
+            return false;
+
+        boolean dotted = false;
+        i = skipWord(val, i + 1, limit);
+        while (i >= 0 && i < limit) {
+            byte b = val.get(i);
+            if (b != '-' && b != '.')
+                return false;
+
+            dotted |= b == '.';
+            i = skipWord(val, i + 1, limit);
+        }
+
+        return i >= 0 && dotted;
+    }
+
+    public static boolean contains(ByteBuffer val, CharSequence text) {
+        int limit = val.limit();
+        if (text.length() == 0)
+            return true;
+
+        for (int i = val.position(); i < limit; i++) {
+            if (startsWith(val, i, limit, text))
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean startsWith(ByteBuffer val, int from, int limit, CharSequence text) {
+        int position = from;
+        int length = text.length();
+        for (int i = 0; i < length && position >= 0; i++) {
+            char c = text.charAt(i);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1)))
+                codePoint = Character.toCodePoint(c, text.charAt(++i));
+
+            position = match(val, position, limit, codePoint);
+        }
+        return position >= 0;
+    }
+
+    private static int match(ByteBuffer val, int position, int limit, int codePoint) {
+        if (codePoint < 0x80)
+            return position < limit && val.get(position) == codePoint ? position + 1 : -1;
+
+        int continuations;
+        int lead;
+        if (codePoint < 0x800) {
+            continuations = 1;
+            lead = 0xC0 | (codePoint >> 6);
+        } else if (codePoint < 0x10000) {
+            continuations = 2;
+            lead = 0xE0 | (codePoint >> 12);
+        } else {
+            continuations = 3;
+            lead = 0xF0 | (codePoint >> 18);
+        }
+
+        if (limit - position <= continuations || val.get(position) != (byte) lead)
+            return -1;
+
+        for (int shift = 6 * (continuations - 1); shift >= 0; shift -= 6) {
+            if (val.get(++position) != (byte) (0x80 | ((codePoint >> shift) & 0x3F)))
+                return -1;
+        }
+        return position + 1;
+    }
+
+    private static int skipWord(ByteBuffer val, int start, int limit) {
+        int i = start;
+        while (i < limit && CharSequences.isWordChar(charAt(val, i))) {
+            i++;
+        }
+        return i > start ? i : -1;
+    }
+
+    private static char charAt(ByteBuffer val, int index) {
+        return (char) (val.get(index) & 0xFF);
+    }
+}
@@ -0,0 +1,63 @@
+package jflunt.validations.text;
+
+public final class UuidStrings {
+
+    public static final int ANY_VERSION = 0;
+
+    private static final int LENGTH = 36;
+
+    private UuidStrings() {
+    }
+
+    public static boolean isUuid(CharSequence val) {
+        if (val == null || val.length() != LENGTH)
+            return false;
+
+        for (int i = 0; i < LENGTH; i++) {
+            char c = val.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-')
+                    return false;
+            } else if (hexValue(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isUuid(CharSequence val, int version) {
+        if (!isUuid(val))
+            return false;
+
+        if (version == ANY_VERSION)
+            return true;
+
+        return hexValue(val.charAt(14)) == version && (hexValue(val.charAt(19)) & 0xC) == 0x8;
+    }
+
+    public static long mostSigBits(CharSequence val) {
+        return parseHex(val, 0, 8) << 32 | parseHex(val, 9, 13) << 16 | parseHex(val, 14, 18);
+    }
+
+    public static long leastSigBits(CharSequence val) {
+        return parseHex(val, 19, 23) << 48 | parseHex(val, 24, 36);
+    }
+
+    private static long parseHex(CharSequence val, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result << 4 | hexValue(val.charAt(i));
+        }
+        return result;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9')
+            return c - '0';
+        if (c >= 'a' && c <= 'f')
+            return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F')
+            return c - 'A' + 10;
+        return -1;
+    }
+}
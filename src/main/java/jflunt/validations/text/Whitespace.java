@@ -0,0 +1,18 @@
+package jflunt.validations.text;
+
+public enum Whitespace {
+    TRIM {
+        @Override
+        public boolean isWhitespace(int codePoint) {
+            return codePoint <= ' ';
+        }
+    },
+    UNICODE {
+        @Override
+        public boolean isWhitespace(int codePoint) {
+            return Character.isWhitespace(codePoint);
+        }
+    };
+
+    public abstract boolean isWhitespace(int codePoint);
+}
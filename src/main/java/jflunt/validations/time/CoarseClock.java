@@ -0,0 +1,117 @@
+package jflunt.validations.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class CoarseClock extends Clock implements AutoCloseable {
+
+    private final Ticker ticker;
+    private final ZoneId zone;
+    private final AtomicBoolean closed;
+
+    private CoarseClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+        this.closed = new AtomicBoolean();
+    }
+
+    public static CoarseClock start(Duration resolution) {
+        return start(Clock.systemDefaultZone(), resolution);
+    }
+
+    public static CoarseClock start(Clock source, Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero())
+            throw new IllegalArgumentException("Resolution must be greater than zero");
+
+        return new CoarseClock(new Ticker(source, resolution), source.getZone());
+    }
+
+    public Duration getResolution() {
+        return this.ticker.resolution;
+    }
+
+    public boolean isRunning() {
+        return !this.closed.get() && !this.ticker.executor.isShutdown();
+    }
+
+    public void refresh() {
+        this.ticker.run();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return this.zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.zone))
+            return this;
+
+        this.ticker.retain();
+        return new CoarseClock(this.ticker, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return this.ticker.now;
+    }
+
+    @Override
+    public long millis() {
+        return this.ticker.now.toEpochMilli();
+    }
+
+    @Override
+    public void close() {
+        if (this.closed.compareAndSet(false, true))
+            this.ticker.release();
+    }
+
+    private static final class Ticker implements Runnable {
+
+        private final Clock source;
+        private final Duration resolution;
+        private final ScheduledExecutorService executor;
+        private int owners;
+        private volatile Instant now;
+
+        private Ticker(Clock source, Duration resolution) {
+            this.source = source;
+            this.resolution = resolution;
+            this.now = source.instant();
+            this.owners = 1;
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "jflunt-coarse-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            long nanos = resolution.toNanos();
+            this.executor.scheduleAtFixedRate(this, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+
+        private synchronized void retain() {
+            if (this.owners == 0)
+                throw new IllegalStateException("Coarse clock is closed");
+
+            this.owners++;
+        }
+
+        private synchronized void release() {
+            if (--this.owners == 0)
+                this.executor.shutdownNow();
+        }
+
+        @Override
+        public void run() {
+            this.now = this.source.instant();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package jflunt.validations.time;
+
+import java.time.Instant;
+
+public enum EpochUnit {
+    MILLIS(1000L),
+    MICROS(1000000L),
+    NANOS(1000000000L),
+    DAYS(0L);
+
+    private final long perSecond;
+
+    EpochUnit(long perSecond) {
+        this.perSecond = perSecond;
+    }
+
+    public boolean isInstant() {
+        return this.perSecond > 0;
+    }
+
+    public long toEpochSecond(long val) {
+        requireInstant();
+        return Math.floorDiv(val, this.perSecond);
+    }
+
+    public long toNanoAdjustment(long val) {
+        requireInstant();
+        return Math.floorMod(val, this.perSecond) * (1000000000L / this.perSecond);
+    }
+
+    public long fromInstant(Instant val) {
+        requireInstant();
+        return Math.addExact(Math.multiplyExact(val.getEpochSecond(), this.perSecond), val.getNano() / (1000000000L / this.perSecond));
+    }
+
+    public static int compare(long val, EpochUnit unit, long other, EpochUnit otherUnit) {
+        if (unit == otherUnit)
+            return Long.compare(val, other);
+
+        if (!unit.isInstant() || !otherUnit.isInstant())
+            throw new IllegalArgumentException("Cannot compare " + unit + " values with " + otherUnit + " values");
+
+        return TimeWindow.compare(unit.toEpochSecond(val), unit.toNanoAdjustment(val),
+            otherUnit.toEpochSecond(other), otherUnit.toNanoAdjustment(other));
+    }
+
+    public void requireInstant(String rule) {
+        if (!isInstant())
+            throw new IllegalArgumentException(rule + " needs an instant unit (MILLIS, MICROS or NANOS), not " + this);
+    }
+
+    void requireInstant() {
+        if (!isInstant())
+            throw new IllegalArgumentException(this + " values are not points on the instant timeline");
+    }
+}
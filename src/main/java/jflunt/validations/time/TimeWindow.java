@@ -0,0 +1,113 @@
+package jflunt.validations.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+public final class TimeWindow {
+
+    private enum Timeline {
+        INSTANT,
+        LOCAL_DATE_TIME,
+        LOCAL_DATE,
+        LOCAL_TIME
+    }
+
+    private final Timeline timeline;
+    private final long fromSeconds;
+    private final long fromNanos;
+    private final long toSeconds;
+    private final long toNanos;
+
+    private TimeWindow(Timeline timeline, long fromSeconds, long fromNanos, long toSeconds, long toNanos) {
+        if (compare(fromSeconds, fromNanos, toSeconds, toNanos) > 0)
+            throw new IllegalArgumentException("Window start must not be after its end");
+
+        this.timeline = timeline;
+        this.fromSeconds = fromSeconds;
+        this.fromNanos = fromNanos;
+        this.toSeconds = toSeconds;
+        this.toNanos = toNanos;
+    }
+
+    public static TimeWindow between(Instant from, Instant to) {
+        return new TimeWindow(Timeline.INSTANT, from.getEpochSecond(), from.getNano(), to.getEpochSecond(), to.getNano());
+    }
+
+    public static TimeWindow between(ZonedDateTime from, ZonedDateTime to) {
+        return new TimeWindow(Timeline.INSTANT, from.toEpochSecond(), from.getNano(), to.toEpochSecond(), to.getNano());
+    }
+
+    public static TimeWindow between(OffsetDateTime from, OffsetDateTime to) {
+        return new TimeWindow(Timeline.INSTANT, from.toEpochSecond(), from.getNano(), to.toEpochSecond(), to.getNano());
+    }
+
+    public static TimeWindow between(LocalDateTime from, LocalDateTime to) {
+        return new TimeWindow(Timeline.LOCAL_DATE_TIME,
+            from.toEpochSecond(ZoneOffset.UTC), from.getNano(), to.toEpochSecond(ZoneOffset.UTC), to.getNano());
+    }
+
+    public static TimeWindow between(LocalDate from, LocalDate to) {
+        return new TimeWindow(Timeline.LOCAL_DATE, from.toEpochDay(), 0, to.toEpochDay(), 0);
+    }
+
+    public static TimeWindow between(LocalTime from, LocalTime to) {
+        return new TimeWindow(Timeline.LOCAL_TIME, 0, from.toNanoOfDay(), 0, to.toNanoOfDay());
+    }
+
+    public static TimeWindow between(long from, long to, EpochUnit unit) {
+        if (!unit.isInstant())
+            return new TimeWindow(Timeline.LOCAL_DATE, from, 0, to, 0);
+
+        return new TimeWindow(Timeline.INSTANT,
+            unit.toEpochSecond(from), unit.toNanoAdjustment(from), unit.toEpochSecond(to), unit.toNanoAdjustment(to));
+    }
+
+    public boolean contains(long val, EpochUnit unit) {
+        if (!unit.isInstant())
+            return contains(Timeline.LOCAL_DATE, val, 0);
+
+        return contains(Timeline.INSTANT, unit.toEpochSecond(val), unit.toNanoAdjustment(val));
+    }
+
+    public boolean contains(Instant val) {
+        return val != null && contains(Timeline.INSTANT, val.getEpochSecond(), val.getNano());
+    }
+
+    public boolean contains(ZonedDateTime val) {
+        return val != null && contains(Timeline.INSTANT, val.toEpochSecond(), val.getNano());
+    }
+
+    public boolean contains(OffsetDateTime val) {
+        return val != null && contains(Timeline.INSTANT, val.toEpochSecond(), val.getNano());
+    }
+
+    public boolean contains(LocalDateTime val) {
+        return val != null && contains(Timeline.LOCAL_DATE_TIME, val.toEpochSecond(ZoneOffset.UTC), val.getNano());
+    }
+
+    public boolean contains(LocalDate val) {
+        return val != null && contains(Timeline.LOCAL_DATE, val.toEpochDay(), 0);
+    }
+
+    public boolean contains(LocalTime val) {
+        return val != null && contains(Timeline.LOCAL_TIME, 0, val.toNanoOfDay());
+    }
+
+    private boolean contains(Timeline timeline, long seconds, long nanos) {
+        if (timeline != this.timeline)
+            throw new IllegalArgumentException("A " + this.timeline + " window cannot check a " + timeline + " value");
+
+        return compare(seconds, nanos, this.fromSeconds, this.fromNanos) > 0
+            && compare(seconds, nanos, this.toSeconds, this.toNanos) < 0;
+    }
+
+    static int compare(long seconds, long nanos, long otherSeconds, long otherNanos) {
+        int result = Long.compare(seconds, otherSeconds);
+        return result != 0 ? result : Long.compare(nanos, otherNanos);
+    }
+}
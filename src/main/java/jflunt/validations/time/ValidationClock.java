@@ -0,0 +1,95 @@
+package jflunt.validations.time;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+public final class ValidationClock {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static CoarseClock owned;
+
+    private ValidationClock() {
+    }
+
+    public static Clock get() {
+        return clock;
+    }
+
+    public static synchronized void use(Clock clock) {
+        if (clock == null)
+            throw new IllegalArgumentException("Clock must not be null");
+
+        stopCoarse();
+        ValidationClock.clock = clock;
+    }
+
+    public static synchronized CoarseClock useCoarse(Duration resolution) {
+        CoarseClock coarse = CoarseClock.start(Clock.system(clock.getZone()), resolution);
+        stopCoarse();
+        owned = coarse;
+        clock = coarse;
+        return coarse;
+    }
+
+    public static synchronized void reset() {
+        stopCoarse();
+        clock = Clock.systemDefaultZone();
+    }
+
+    public static long epochSecondOf(LocalDateTime val) {
+        return val.toEpochSecond(clock.getZone().getRules().getOffset(val));
+    }
+
+    public static long today() {
+        Clock clock = ValidationClock.clock;
+        Instant now = clock.instant();
+        long local = now.getEpochSecond() + clock.getZone().getRules().getOffset(now).getTotalSeconds();
+        return Math.floorDiv(local, SECONDS_PER_DAY);
+    }
+
+    public static int compareToNow(long seconds, long nanos) {
+        Instant now = clock.instant();
+        return TimeWindow.compare(seconds, nanos, now.getEpochSecond(), now.getNano());
+    }
+
+    public static boolean isNotOlderThan(long seconds, long nanos, Duration age) {
+        Instant now = clock.instant();
+        long limitSeconds = now.getEpochSecond() - age.getSeconds();
+        long limitNanos = now.getNano() - age.getNano();
+        if (limitNanos < 0) {
+            limitSeconds--;
+            limitNanos += NANOS_PER_SECOND;
+        }
+
+        return TimeWindow.compare(seconds, nanos, limitSeconds, limitNanos) >= 0;
+    }
+
+    public static boolean isWithin(long seconds, long nanos, Duration duration) {
+        Instant now = clock.instant();
+        long diffSeconds = seconds - now.getEpochSecond();
+        long diffNanos = nanos - now.getNano();
+
+        if (diffSeconds < 0 || (diffSeconds == 0 && diffNanos < 0)) {
+            diffSeconds = -diffSeconds;
+            diffNanos = -diffNanos;
+        }
+        if (diffNanos < 0) {
+            diffSeconds--;
+            diffNanos += NANOS_PER_SECOND;
+        }
+
+        return TimeWindow.compare(diffSeconds, diffNanos, duration.getSeconds(), duration.getNano()) <= 0;
+    }
+
+    private static void stopCoarse() {
+        if (owned != null) {
+            owned.close();
+            owned = null;
+        }
+    }
+}
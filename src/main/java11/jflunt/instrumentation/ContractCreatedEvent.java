@@ -0,0 +1,14 @@
+package jflunt.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("jflunt.ContractCreated")
+@Label("Contract Created")
+@Category({ "jflunt", "Contract" })
+@Enabled(false)
+class ContractCreatedEvent extends Event {
+}
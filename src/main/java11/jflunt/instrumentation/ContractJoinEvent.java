@@ -0,0 +1,23 @@
+package jflunt.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("jflunt.ContractJoin")
+@Label("Contract Join")
+@Category({ "jflunt", "Contract" })
+@StackTrace(false)
+class ContractJoinEvent extends Event {
+
+    @Label("First Property")
+    String property;
+
+    @Label("Joined Items")
+    int items;
+
+    @Label("Notifications")
+    int notifications;
+}
@@ -0,0 +1,102 @@
+package jflunt.instrumentation;
+
+import java.time.Duration;
+
+import jdk.jfr.EventType;
+
+public final class FlightRecorderEvents {
+
+    private static final EventType CONTRACT_CREATED = EventType.getEventType(ContractCreatedEvent.class);
+    private static final EventType CONTRACT_JOIN = EventType.getEventType(ContractJoinEvent.class);
+    private static final EventType NOTIFICATION_MERGE = EventType.getEventType(NotificationMergeEvent.class);
+    private static final EventType RULE_EVALUATION = EventType.getEventType(RuleEvaluationEvent.class);
+
+    private static volatile long ruleEvaluationThreshold = Duration.ofMillis(10).toNanos();
+    private static volatile int largeMergeThreshold = 100;
+
+    private FlightRecorderEvents() {
+    }
+
+    public static boolean isAvailable() {
+        return true;
+    }
+
+    public static void setRuleEvaluationThreshold(Duration threshold) {
+        ruleEvaluationThreshold = threshold.toNanos();
+    }
+
+    public static void setLargeMergeThreshold(int notifications) {
+        largeMergeThreshold = notifications;
+    }
+
+    public static void validationFailed(String property, String rule) {
+        ValidationFailureEvent event = new ValidationFailureEvent();
+        if (event.isEnabled()) {
+            event.property = property;
+            event.rule = rule;
+            event.commit();
+        }
+    }
+
+    public static void slowValidation(String property, String rule, long nanos) {
+        SlowValidationEvent event = new SlowValidationEvent();
+        if (event.isEnabled()) {
+            event.property = property;
+            event.rule = rule;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    public static boolean isContractCreationEnabled() {
+        return CONTRACT_CREATED.isEnabled();
+    }
+
+    public static void contractCreated() {
+        new ContractCreatedEvent().commit();
+    }
+
+    public static boolean isRuleEvaluationEnabled() {
+        return RULE_EVALUATION.isEnabled();
+    }
+
+    public static void ruleEvaluated(String property, String rule, boolean passed, long nanos) {
+        if (nanos < ruleEvaluationThreshold)
+            return;
+
+        RuleEvaluationEvent event = new RuleEvaluationEvent();
+        if (event.isEnabled()) {
+            event.property = property;
+            event.rule = rule;
+            event.passed = passed;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    public static boolean isContractJoinEnabled() {
+        return CONTRACT_JOIN.isEnabled();
+    }
+
+    public static void contractJoined(String property, int items, int notifications) {
+        ContractJoinEvent event = new ContractJoinEvent();
+        event.property = property;
+        event.items = items;
+        event.notifications = notifications;
+        event.commit();
+    }
+
+    public static boolean isNotificationMergeEnabled() {
+        return NOTIFICATION_MERGE.isEnabled();
+    }
+
+    public static void notificationsMerged(String property, int notifications) {
+        if (notifications < largeMergeThreshold)
+            return;
+
+        NotificationMergeEvent event = new NotificationMergeEvent();
+        event.property = property;
+        event.notifications = notifications;
+        event.commit();
+    }
+}
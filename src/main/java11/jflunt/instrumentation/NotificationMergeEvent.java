@@ -0,0 +1,18 @@
+package jflunt.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("jflunt.NotificationMerge")
+@Label("Large Notification Merge")
+@Category({ "jflunt", "Contract" })
+class NotificationMergeEvent extends Event {
+
+    @Label("First Property")
+    String property;
+
+    @Label("Notifications")
+    int notifications;
+}
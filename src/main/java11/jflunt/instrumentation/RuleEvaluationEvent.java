@@ -0,0 +1,26 @@
+package jflunt.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("jflunt.RuleEvaluation")
+@Label("Rule Evaluation")
+@Category({ "jflunt", "Validation" })
+class RuleEvaluationEvent extends Event {
+
+    @Label("Property")
+    String property;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Passed")
+    boolean passed;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
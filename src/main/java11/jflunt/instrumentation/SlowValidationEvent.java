@@ -0,0 +1,23 @@
+package jflunt.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("jflunt.SlowValidation")
+@Label("Slow Validation")
+@Category({ "jflunt", "Validation" })
+class SlowValidationEvent extends Event {
+
+    @Label("Property")
+    String property;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
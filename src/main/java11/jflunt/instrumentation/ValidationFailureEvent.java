@@ -0,0 +1,20 @@
+package jflunt.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("jflunt.ValidationFailure")
+@Label("Validation Failure")
+@Category({ "jflunt", "Validation" })
+@StackTrace(false)
+class ValidationFailureEvent extends Event {
+
+    @Label("Property")
+    String property;
+
+    @Label("Rule")
+    String rule;
+}
@@ -0,0 +1,22 @@
+package jflunt.validations.arrays;
+
+final class RangeKernels {
+
+    static final RangeKernel KERNEL = load();
+
+    private RangeKernels() {
+    }
+
+    private static RangeKernel load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return new ScalarRangeKernel();
+
+        try {
+            return (RangeKernel) Class.forName("jflunt.validations.arrays.VectorRangeKernel")
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarRangeKernel();
+        }
+    }
+}
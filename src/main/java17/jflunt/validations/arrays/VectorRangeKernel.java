@@ -0,0 +1,68 @@
+package jflunt.validations.arrays;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+class VectorRangeKernel implements RangeKernel {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int nextOutside(int[] vals, int start, int from, int to) {
+        int i = start;
+        for (int upper = start + INTS.loopBound(vals.length - start); i < upper; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, vals, i);
+            VectorMask<Integer> outside = v.compare(VectorOperators.LT, from).or(v.compare(VectorOperators.GT, to));
+            if (outside.anyTrue())
+                return i + outside.firstTrue();
+        }
+        for (; i < vals.length; i++) {
+            if (vals[i] < from || vals[i] > to)
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int nextOutside(long[] vals, int start, long from, long to) {
+        int i = start;
+        for (int upper = start + LONGS.loopBound(vals.length - start); i < upper; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, vals, i);
+            VectorMask<Long> outside = v.compare(VectorOperators.LT, from).or(v.compare(VectorOperators.GT, to));
+            if (outside.anyTrue())
+                return i + outside.firstTrue();
+        }
+        for (; i < vals.length; i++) {
+            if (vals[i] < from || vals[i] > to)
+                return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int nextOutside(double[] vals, int start, double from, double to) {
+        long lower = PrimitiveArrays.sortable(from);
+        long upper = PrimitiveArrays.sortable(to);
+        int i = start;
+        for (int bound = start + DOUBLES.loopBound(vals.length - start); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, vals, i);
+            LongVector bits = v.blend(Double.NaN, v.test(VectorOperators.IS_NAN)).reinterpretAsLongs();
+            LongVector keys = bits.lanewise(VectorOperators.XOR, bits.lanewise(VectorOperators.ASHR, 63).lanewise(VectorOperators.AND, Long.MAX_VALUE));
+            VectorMask<Long> outside = keys.compare(VectorOperators.LT, lower).or(keys.compare(VectorOperators.GT, upper));
+            if (outside.anyTrue())
+                return i + outside.firstTrue();
+        }
+        for (; i < vals.length; i++) {
+            long val = PrimitiveArrays.sortable(vals[i]);
+            if (val < lower || val > upper)
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,179 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import jflunt.validations.Contract;
+import jflunt.validations.text.Whitespace;
+
+public class ByteBufferValidationContractTests {
+
+    @Test
+    public void isNotNullOrEmptyUtf8() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .isNotNullOrEmptyUtf8(null, "field", "Field is null")
+            .isNotNullOrEmptyUtf8(utf8(" \t "), "field", "Field is empty");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isNotNullOrEmptyUtf8(utf8(" ã "), "field", "Field is empty");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void unicodeWhitespace() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .withWhitespace(Whitespace.UNICODE)
+            .isNotNullOrEmptyUtf8(utf8("\u2003\u3000\u2028 "), "field", "Field is empty");
+
+        assertEquals(1, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .withWhitespace(Whitespace.UNICODE)
+            .isNotNullOrEmptyUtf8(utf8("\u2003ã"), "field", "Field is empty")
+            .isNotNullOrEmptyUtf8(utf8("\u2003😀"), "field", "Field is empty");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void lengthsCountCharacters() {
+
+        ByteBuffer name = utf8("João");
+
+        Contract wrong = new Contract()
+            .requires()
+            .hasMinLenUtf8(name, 5, "name", "Name len is less than permited")
+            .hasMaxLenUtf8(name, 3, "name", "Name len is more than permited")
+            .hasLenUtf8(name, 5, "name", "Name len is not 5");
+
+        assertEquals(3, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .hasMinLenUtf8(name, 4, "name", "Name len is less than permited")
+            .hasMaxLenUtf8(name, 4, "name", "Name len is more than permited")
+            .hasLenUtf8(name, 4, "name", "Name len is not 4")
+            .hasLenUtf8(utf8("a😀"), 3, "name", "Name len is not 3");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void respectsBufferSlice() {
+
+        ByteBuffer buffer = utf8("id=12345;mail=carlosbritojun@gmail.com");
+        buffer.position(3);
+        buffer.limit(8);
+
+        Contract right = new Contract()
+            .requires()
+            .isDigitUtf8(buffer, "id", "Id is not a number")
+            .hasLenUtf8(buffer, 5, "id", "Id len is not 5");
+
+        assertEquals(true, right.isValid());
+        assertEquals(3, buffer.position());
+
+        buffer.limit(buffer.capacity());
+        buffer.position(14);
+
+        Contract email = new Contract()
+            .requires()
+            .isEmailUtf8(buffer, "mail", "Invalid E-mail")
+            .isDigitUtf8(buffer, "mail", "Mail is not a number");
+
+        assertEquals(1, email.getNotifications().size());
+        assertEquals("Mail is not a number", email.getNotifications().get(0).getMessage());
+    }
+
+    @Test
+    public void containsUtf8() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .containsUtf8(utf8("some text here"), "banana", "field", "Field does not contains banana")
+            .containsUtf8(utf8("maçã"), "çá", "field", "Field does not contains çá");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .containsUtf8(utf8("some banana here"), "banana", "field", "Field does not contains banana")
+            .containsUtf8(utf8("maçã"), "çã", "field", "Field does not contains çã");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void containsMultiByteUtf8() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .containsUtf8(utf8("price: 10\u20ac"), "10$", "field", "Field does not contains 10$")
+            .containsUtf8(utf8("banana \uD83C\uDF4C"), "\uD83C\uDF4D", "field", "Field does not contains pineapple")
+            .containsUtf8(utf8("\u20ac"), "\u20ac\u20ac", "field", "Field does not contains two euros");
+
+        assertEquals(3, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .containsUtf8(utf8("price: 10\u20ac"), "10\u20ac", "field", "Field does not contains 10\u20ac")
+            .containsUtf8(utf8("banana \uD83C\uDF4C!"), "\uD83C\uDF4C!", "field", "Field does not contains banana")
+            .containsUtf8(utf8("anything"), "", "field", "Field does not contains nothing");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void bufferRulesDoNotAllocate() {
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+
+        ByteBuffer text = utf8("order \uD83C\uDF4C for jo\u00e3o");
+        ByteBuffer email = utf8("joao@example.com");
+        ByteBuffer digits = utf8("0123456789");
+        Contract contract = new Contract().requires();
+        long thread = Thread.currentThread().getId();
+
+        for (int i = 0; i < 10000; i++) {
+            contract.containsUtf8(text, "for jo\u00e3o", "text", "Text is invalid")
+                .isEmailUtf8(email, "email", "Email is invalid")
+                .isDigitUtf8(digits, "digits", "Digits are invalid");
+        }
+
+        long before = allocations.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10000; i++) {
+            contract.containsUtf8(text, "\uD83C\uDF4C for", "text", "Text is invalid")
+                .isEmailUtf8(email, "email", "Email is invalid")
+                .isDigitUtf8(digits, "digits", "Digits are invalid");
+        }
+        long allocated = allocations.getThreadAllocatedBytes(thread) - before;
+
+        assertEquals(true, contract.isValid());
+        assertTrue("Allocated " + allocated + " bytes", allocated < 10000);
+    }
+
+    private static ByteBuffer utf8(String val) {
+        return ByteBuffer.wrap(val.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,272 @@
+package jflunt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import jflunt.validations.Contract;
+import jflunt.validations.arrays.ColumnRanges;
+import jflunt.validations.arrays.PrimitiveArrays;
+
+public class CollectionValidationContractTests {
+
+    @Test
+    public void sizes() {
+
+        List<String> items = Arrays.asList("a", "b", "c");
+
+        Contract wrong = new Contract()
+            .requires()
+            .isNotEmpty(Collections.emptyList(), "items", "Items are empty")
+            .isNotEmpty(null, "items", "Items are null")
+            .hasMinSize(items, 4, "items", "Too few items")
+            .hasMaxSize(items, 2, "items", "Too many items")
+            .hasSize(items, 2, "items", "Wrong number of items");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(5, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isNotEmpty(items, "items", "Items are empty")
+            .hasMinSize(items, 3, "items", "Too few items")
+            .hasMaxSize(items, 3, "items", "Too many items")
+            .hasSize(items, 3, "items", "Wrong number of items");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void matches() {
+
+        List<Integer> quantities = Arrays.asList(1, 2, 3);
+
+        Contract wrong = new Contract()
+            .requires()
+            .allMatch(quantities, q -> q > 1, "quantities", "Not all quantities are above one")
+            .anyMatch(quantities, q -> q > 3, "quantities", "No quantity is above three")
+            .anyMatch(Collections.<Integer>emptyList(), q -> true, "quantities", "Quantities are empty");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(3, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .allMatch(quantities, q -> q > 0, "quantities", "Not all quantities are positive")
+            .anyMatch(quantities, q -> q == 3, "quantities", "No quantity is three");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void hasNoDuplicates() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .hasNoDuplicates(Arrays.asList("a", "b", "a"), "skus", "Duplicated sku")
+            .hasNoDuplicates(new int[] { 1, 2, 1 }, "ids", "Duplicated id")
+            .hasNoDuplicates(new long[] { 0, 5, 0 }, "ids", "Duplicated id")
+            .hasNoDuplicates(new double[] { Double.NaN, 1.5, Double.NaN }, "prices", "Duplicated price")
+            .hasNoDuplicates((int[]) null, "ids", "Ids are null");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(5, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .hasNoDuplicates(Arrays.asList("a", "b", "c"), "skus", "Duplicated sku")
+            .hasNoDuplicates(new TreeSet<Integer>(Arrays.asList(3, 1)), "ids", "Duplicated id")
+            .hasNoDuplicates(new int[0], "ids", "Duplicated id")
+            .hasNoDuplicates(new double[] { 0.0, -0.0 }, "prices", "Duplicated price");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void largeArraysUseHashing() {
+
+        Random random = new Random(3);
+        for (int length : new int[] { 10, 100, 1000 }) {
+            long[] vals = new long[length];
+            for (int i = 0; i < length; i++) {
+                vals[i] = i * 31L - 500;
+            }
+            for (int i = length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long swap = vals[i];
+                vals[i] = vals[j];
+                vals[j] = swap;
+            }
+            assertEquals(false, PrimitiveArrays.hasDuplicates(vals));
+
+            int index = random.nextInt(length);
+            vals[index] = vals[(index + 1) % length];
+            assertEquals(true, PrimitiveArrays.hasDuplicates(vals));
+
+            int[] ints = Arrays.stream(vals).mapToInt(v -> (int) v).toArray();
+            assertEquals(true, PrimitiveArrays.hasDuplicates(ints));
+        }
+    }
+
+    @Test
+    public void isSorted() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .isSorted(Arrays.asList("b", "a"), "names", "Names are not sorted")
+            .isSorted(new int[] { 1, 3, 2 }, "ids", "Ids are not sorted")
+            .isSorted(new long[] { 2, 1 }, "ids", "Ids are not sorted")
+            .isSorted(new double[] { 1.0, Double.NaN, 2.0 }, "prices", "Prices are not sorted")
+            .isSorted(Arrays.asList("a", null, "b"), "names", "Names contain null")
+            .isSorted(Arrays.asList((String) null), "names", "Names contain null");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(6, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isSorted(Arrays.asList("a", "a", "b"), "names", "Names are not sorted")
+            .isSorted(Collections.<String>emptyList(), "names", "Names are not sorted")
+            .isSorted(new int[] { 1, 1, 2 }, "ids", "Ids are not sorted")
+            .isSorted(new long[0], "ids", "Ids are not sorted")
+            .isSorted(new double[] { -1.0, 2.5 }, "prices", "Prices are not sorted");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void allBetween() {
+
+        int[] quantities = new int[1000];
+        Arrays.fill(quantities, 5);
+        quantities[777] = 11;
+
+        Contract wrong = new Contract()
+            .requires()
+            .allBetween(Arrays.asList(1, 20), 1, 10, "quantities", "Quantity out of range")
+            .allBetween(quantities, 1, 10, "quantities", "Quantity out of range")
+            .allBetween(new long[] { -1 }, 0L, 10L, "ids", "Id out of range")
+            .allBetween(new double[] { 1.0, Double.NaN }, 0.0, 10.0, "prices", "Price out of range");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(4, wrong.getNotifications().size());
+
+        quantities[777] = 10;
+
+        Contract right = new Contract()
+            .requires()
+            .allBetween(Arrays.asList(1, 10), 1, 10, "quantities", "Quantity out of range")
+            .allBetween(quantities, 1, 10, "quantities", "Quantity out of range")
+            .allBetween(new long[] { 0, 10 }, 0L, 10L, "ids", "Id out of range")
+            .allBetween(new double[] { 0.0, 9.99 }, 0.0, 10.0, "prices", "Price out of range");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void eachBetween() {
+
+        double[] prices = new double[100];
+        Arrays.fill(prices, 9.9);
+        prices[3] = -1;
+        prices[97] = Double.NaN;
+
+        Contract contract = new Contract()
+            .requires()
+            .eachBetween(prices, 0.0, 100.0, "prices", "Price out of range")
+            .eachBetween(new long[] { 5, 50, 500 }, 0L, 100L, "timestamps", "Timestamp out of range")
+            .eachBetween(new int[] { 1, 2, 3 }, 1, 3, "quantities", "Quantity out of range");
+
+        assertEquals(3, contract.getNotifications().size());
+        assertEquals("prices[3]", contract.getNotifications().get(0).getProperty());
+        assertEquals("prices[97]", contract.getNotifications().get(1).getProperty());
+        assertEquals("timestamps[2]", contract.getNotifications().get(2).getProperty());
+    }
+
+    @Test
+    public void eachBetweenKeepsPropertyText() {
+
+        Contract contract = new Contract()
+            .requires()
+            .eachBetween(new int[] { 1, 9 }, 0, 5, "a[1]b", "Out of range")
+            .eachBetween(new long[] { 9 }, 0L, 5L, ".x", "Out of range")
+            .eachBetween(new double[] { 9.0 }, 0.0, 5.0, "order.lines", "Out of range");
+
+        assertEquals("a[1]b[1]", contract.getNotifications().get(0).getProperty());
+        assertEquals(".x[0]", contract.getNotifications().get(1).getProperty());
+        assertEquals("order.lines[0]", contract.getNotifications().get(2).getProperty());
+    }
+
+    @Test
+    public void indicesOutside() {
+
+        Random random = new Random(11);
+        for (int length : new int[] { 0, 1, 255, 256, 257, 5000 }) {
+            long[] vals = new long[length];
+            for (int i = 0; i < length; i++) {
+                vals[i] = random.nextInt(1000);
+            }
+
+            int[] expected = IntStream.range(0, length).filter(i -> vals[i] < 10 || vals[i] > 990).toArray();
+            assertArrayEquals(expected, ColumnRanges.indicesOutside(vals, 10L, 990L));
+            assertEquals(expected.length == 0 ? -1 : expected[0], ColumnRanges.firstOutside(vals, 10L, 990L));
+        }
+    }
+
+    @Test
+    public void doubleRangesFollowContractOrdering() {
+
+        double[] edges = { Double.NaN, Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, Double.MIN_VALUE, 1.0, Double.POSITIVE_INFINITY };
+        for (double from : edges) {
+            for (double val : edges) {
+                double[] single = { val };
+                for (double to : edges) {
+                    boolean between = new Contract().requires().isBetween(Double.valueOf(val), Double.valueOf(from), Double.valueOf(to), "val", "Out of range").isValid();
+                    assertEquals(between, ColumnRanges.firstOutside(single, from, to) < 0);
+                }
+
+                boolean greater = new Contract().requires().isGreaterThan(Double.valueOf(val), Double.valueOf(from), "val", "Too small").isValid();
+                boolean lower = new Contract().requires().isLowerThan(Double.valueOf(val), Double.valueOf(from), "val", "Too large").isValid();
+                assertEquals(greater, ColumnRanges.nextNotGreaterThan(single, 0, from) < 0);
+                assertEquals(lower, ColumnRanges.nextNotLowerThan(single, 0, from) < 0);
+            }
+        }
+    }
+
+    @Test
+    public void exclusiveBounds() {
+
+        Random random = new Random(7);
+        int[] ints = random.ints(600, -5, 5).toArray();
+        long[] longs = random.longs(600, -5, 5).toArray();
+        ints[17] = Integer.MIN_VALUE;
+        ints[18] = Integer.MAX_VALUE;
+        longs[17] = Long.MIN_VALUE;
+        longs[18] = Long.MAX_VALUE;
+
+        for (int comparer : new int[] { Integer.MIN_VALUE, -5, 0, 4, Integer.MAX_VALUE }) {
+            for (int start = 0; start <= ints.length; start += 37) {
+                int from = start;
+                assertEquals(IntStream.range(from, ints.length).filter(i -> ints[i] <= comparer).findFirst().orElse(-1),
+                    ColumnRanges.nextNotGreaterThan(ints, from, comparer));
+                assertEquals(IntStream.range(from, ints.length).filter(i -> ints[i] >= comparer).findFirst().orElse(-1),
+                    ColumnRanges.nextNotLowerThan(ints, from, comparer));
+                assertEquals(IntStream.range(from, longs.length).filter(i -> longs[i] <= comparer).findFirst().orElse(-1),
+                    ColumnRanges.nextNotGreaterThan(longs, from, (long) comparer));
+                assertEquals(IntStream.range(from, longs.length).filter(i -> longs[i] >= comparer).findFirst().orElse(-1),
+                    ColumnRanges.nextNotLowerThan(longs, from, (long) comparer));
+            }
+        }
+
+        assertEquals(0, ColumnRanges.nextNotGreaterThan(new long[] { Long.MAX_VALUE }, 0, Long.MAX_VALUE));
+        assertEquals(-1, ColumnRanges.nextNotGreaterThan(new long[0], 0, Long.MAX_VALUE));
+    }
+}
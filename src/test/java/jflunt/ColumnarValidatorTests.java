@@ -0,0 +1,249 @@
+package jflunt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jflunt.notifications.Notification;
+import jflunt.validations.Contract;
+import jflunt.validations.columns.ColumnBatch;
+import jflunt.validations.columns.ColumnarValidation;
+import jflunt.validations.columns.ColumnarValidator;
+import jflunt.validations.columns.RowBitmap;
+import jflunt.validations.text.PatternSet;
+import jflunt.validations.text.Whitespace;
+import jflunt.validations.time.EpochUnit;
+import jflunt.validations.time.TimeWindow;
+import jflunt.validations.time.ValidationClock;
+
+public class ColumnarValidatorTests {
+
+    @After
+    public void resetClock() {
+        ValidationClock.reset();
+    }
+
+    @Test
+    public void validatesColumns() {
+
+        ValidationClock.use(Clock.fixed(Instant.ofEpochMilli(10000), ZoneOffset.UTC));
+
+        ColumnBatch batch = new ColumnBatch(4)
+            .with("quantity", new int[] { 1, 0, 5, 1000 })
+            .with("price", new double[] { 9.9, 10.0, Double.NaN, 0.5 })
+            .with("email", new CharSequence[] { "a@b.com", "nope", null, new StringBuilder("c@d.org") })
+            .with("createdAt", new long[] { 5000, 10000, 10001, 0 });
+
+        ColumnarValidation result = new ColumnarValidator()
+            .isBetween("quantity", 1, 999, "Quantity out of range")
+            .isBetween("price", 0.0, 100.0, "Price out of range")
+            .isEmail("email", "E-mail is invalid")
+            .isNotInFuture("createdAt", EpochUnit.MILLIS, "Created in the future")
+            .validate(batch);
+
+        assertEquals(false, result.isValid());
+        assertEquals(4, result.getRuleCount());
+        assertArrayEquals(new int[] { 1, 3 }, result.getFailures(0).toArray());
+        assertArrayEquals(new int[] { 2 }, result.getFailures(1).toArray());
+        assertArrayEquals(new int[] { 1, 2 }, result.getFailures(2).toArray());
+        assertArrayEquals(new int[] { 2 }, result.getFailures(3).toArray());
+
+        List<Notification> notifications = result.getNotifications();
+        assertEquals(6, notifications.size());
+        assertEquals("quantity[1]", notifications.get(0).getProperty());
+        assertEquals("email[1]", notifications.get(1).getProperty());
+        assertEquals("price[2]", notifications.get(2).getProperty());
+        assertEquals("email[2]", notifications.get(3).getProperty());
+        assertEquals("createdAt[2]", notifications.get(4).getProperty());
+        assertEquals("quantity[3]", notifications.get(5).getProperty());
+        assertEquals(notifications, result.getNotifications());
+    }
+
+    @Test
+    public void keepsColumnNamesVerbatim() {
+
+        ColumnBatch batch = new ColumnBatch(2)
+            .with("lines[0]qty", new int[] { 1, 0 });
+
+        ColumnarValidation result = new ColumnarValidator()
+            .isBetween("lines[0]qty", 1, 999, "Quantity out of range")
+            .validate(batch);
+
+        assertEquals("lines[0]qty[1]", result.getNotifications().get(0).getProperty());
+    }
+
+    @Test
+    public void textAndCustomRules() {
+
+        ColumnBatch batch = new ColumnBatch(3)
+            .with("code", new CharSequence[] { "AB-12", "  ", "1234" })
+            .with("day", new long[] { 17897, 17898, 17899 });
+
+        PatternSet formats = PatternSet.of("[A-Z]{2}-[0-9]{2}", "[0-9]{4}");
+        TimeWindow window = TimeWindow.between(17896, 17899, EpochUnit.DAYS);
+
+        ColumnarValidation result = new ColumnarValidator()
+            .isNotNullOrEmpty("code", "Code is empty")
+            .hasMaxLen("code", 4, "Code is too long")
+            .matchsAny("code", formats, "Code has an unknown format")
+            .isDigit("code", "Code is not numeric")
+            .isBetween("day", window, EpochUnit.DAYS, "Day is out of window")
+            .rule("row", row -> row != 1, "Row one is rejected")
+            .validate(batch);
+
+        assertArrayEquals(new int[] { 1 }, result.getFailures(0).toArray());
+        assertArrayEquals(new int[] { 0, 1 }, result.getFailures(1).toArray());
+        assertArrayEquals(new int[] { 1 }, result.getFailures(2).toArray());
+        assertArrayEquals(new int[] { 0, 1 }, result.getFailures(3).toArray());
+        assertArrayEquals(new int[] { 2 }, result.getFailures(4).toArray());
+        assertArrayEquals(new int[] { 1 }, result.getFailures(5).toArray());
+    }
+
+    @Test
+    public void largeBatches() {
+
+        long[] timestamps = new long[100000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = i % 1000 == 0 ? -1 : i;
+        }
+
+        ColumnarValidation result = new ColumnarValidator()
+            .isBetween("ts", 0L, Long.MAX_VALUE, "Timestamp is negative")
+            .validate(new ColumnBatch(timestamps.length).with("ts", timestamps));
+
+        assertEquals(100, result.getFailures(0).cardinality());
+        assertEquals(true, result.getFailures(0).get(99000));
+        assertEquals(false, result.getFailures(0).get(99001));
+        assertEquals(100, result.getNotifications().size());
+    }
+
+    @Test
+    public void validBatch() {
+
+        ColumnarValidation result = new ColumnarValidator()
+            .isBetween("id", 1L, 10L, "Id out of range")
+            .validate(new ColumnBatch(2).with("id", new long[] { 1, 10 }));
+
+        assertEquals(true, result.isValid());
+        assertEquals(0, result.getNotifications().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsColumnsOfWrongLength() {
+        new ColumnBatch(2).with("id", new long[3]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsColumnsOfWrongType() {
+        new ColumnarValidator()
+            .isEmail("id", "E-mail is invalid")
+            .validate(new ColumnBatch(1).with("id", new long[1]));
+    }
+
+    @Test
+    public void validitySummary() {
+
+        ColumnBatch batch = new ColumnBatch(5)
+            .with("quantity", new int[] { 1, 0, 5, 0, 2 })
+            .with("sku", new CharSequence[] { "A1", "", "B2", "C3", null });
+
+        ColumnarValidation result = new ColumnarValidator()
+            .isBetween("quantity", 1, 999, "Quantity out of range")
+            .isNotNullOrEmpty("sku", "Sku is empty")
+            .validate(batch);
+
+        assertEquals(2, result.getFailureCount(0));
+        assertEquals(2, result.getFailureCount(1));
+        assertEquals(3, result.getInvalidRowCount());
+        assertArrayEquals(new int[] { 1, 3, 4 }, result.getInvalidRows().toArray());
+
+        BitSet mask = result.getValidityMask();
+        assertEquals(2, mask.cardinality());
+        assertEquals(true, mask.get(0));
+        assertEquals(true, mask.get(2));
+        assertEquals(false, mask.get(5));
+        assertEquals(true, result.isValid(2));
+        assertEquals(false, result.isValid(1));
+
+        List<Notification> row = result.getNotifications(1);
+        assertEquals(2, row.size());
+        assertEquals("quantity[1]", row.get(0).getProperty());
+        assertEquals("Sku is empty", row.get(1).getMessage());
+        assertEquals(0, result.getNotifications(0).size());
+    }
+
+    @Test
+    public void bitmapsAcrossChunks() {
+
+        Random random = new Random(5);
+        int rows = 300000;
+        for (double density : new double[] { 0.0, 0.001, 0.2, 1.0 }) {
+            int[] vals = new int[rows];
+            BitSet expected = new BitSet(rows);
+            for (int i = 0; i < rows; i++) {
+                if (random.nextDouble() < density) {
+                    vals[i] = -1;
+                    expected.set(i);
+                }
+            }
+            if (density > 0) {
+                vals[rows - 1] = -1;
+                expected.set(rows - 1);
+            }
+
+            ColumnarValidation result = new ColumnarValidator()
+                .isBetween("v", 0, 1, "Out of range")
+                .validate(new ColumnBatch(rows).with("v", vals));
+
+            RowBitmap failures = result.getFailures(0);
+            assertEquals(expected.cardinality(), failures.cardinality());
+            assertEquals(expected, failures.toBitSet());
+            assertArrayEquals(expected.stream().toArray(), failures.toArray());
+            for (int i = 0; i < 2000; i++) {
+                int row = random.nextInt(rows);
+                assertEquals(expected.get(row), failures.get(row));
+                assertEquals(expected.nextSetBit(row), failures.nextSetBit(row));
+            }
+        }
+    }
+
+    @Test
+    public void textRulesMatchStringValidationContract() {
+
+        CharSequence[] values = { null, "", "   ", "\u2003", "abc", "abcdef", " ab ", "a@b.com", "123", " 12 ", new StringBuilder("x@y.org") };
+
+        for (Whitespace whitespace : Whitespace.values()) {
+            ColumnarValidation result = new ColumnarValidator()
+                .withWhitespace(whitespace)
+                .isNotNullOrEmpty("value", "Value is empty")
+                .hasMaxLen("value", 4, "Value is too long")
+                .isEmail("value", "Value is not an e-mail")
+                .isDigit("value", "Value is not numeric")
+                .validate(new ColumnBatch(values.length).with("value", values));
+
+            for (int row = 0; row < values.length; row++) {
+                CharSequence value = values[row];
+                Contract[] contracts = {
+                    new Contract().withWhitespace(whitespace).isNotNullOrEmpty(value, "value", "Value is empty"),
+                    new Contract().withWhitespace(whitespace).hasMaxLen(value, 4, "value", "Value is too long"),
+                    new Contract().withWhitespace(whitespace).isEmail(value, "value", "Value is not an e-mail"),
+                    new Contract().withWhitespace(whitespace).isDigit(value, "value", "Value is not numeric")
+                };
+
+                for (int rule = 0; rule < contracts.length; rule++) {
+                    assertEquals(whitespace + " rule " + rule + " row " + row,
+                        contracts[rule].isInvalid(), result.getFailures(rule).get(row));
+                }
+            }
+        }
+    }
+}
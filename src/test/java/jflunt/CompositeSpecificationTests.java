@@ -0,0 +1,125 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import jflunt.specifications.CompositeSpecification;
+import jflunt.validations.Contract;
+
+public class CompositeSpecificationTests {
+
+    private final CompositeSpecification<String> notEmpty =
+        CompositeSpecification.of("value", "Value is empty", s -> !s.isEmpty());
+
+    private final CompositeSpecification<String> numeric =
+        CompositeSpecification.of("value", "Value is not numeric", s -> s.chars().allMatch(Character::isDigit));
+
+    private final CompositeSpecification<String> email =
+        CompositeSpecification.of("value", "Value is not an e-mail", s -> s.contains("@"));
+
+    @Test
+    public void and() {
+
+        CompositeSpecification<String> spec = notEmpty.and(numeric);
+
+        assertEquals(true, spec.isSatisfiedBy("123"));
+        assertEquals(false, spec.isSatisfiedBy("12a"));
+
+        Contract contract = spec.validate("12a");
+        assertEquals(1, contract.getNotifications().size());
+        assertEquals("Value is not numeric", contract.getNotifications().get(0).getMessage());
+
+        assertEquals(2, notEmpty.and(email).and(numeric).validate("abc").getNotifications().size());
+    }
+
+    @Test
+    public void andShortCircuitsWhenOnlyABooleanIsNeeded() {
+
+        AtomicInteger calls = new AtomicInteger();
+        CompositeSpecification<String> counted = CompositeSpecification.of("value", "Counted", s -> calls.incrementAndGet() > 0);
+
+        assertEquals(false, notEmpty.and(counted).isSatisfiedBy(""));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void or() {
+
+        AtomicInteger calls = new AtomicInteger();
+        CompositeSpecification<String> counted = CompositeSpecification.of("value", "Counted", s -> calls.incrementAndGet() < 0);
+        CompositeSpecification<String> spec = numeric.or(counted);
+
+        Contract satisfied = spec.validate("123");
+        assertEquals(true, satisfied.isValid());
+        assertEquals(0, calls.get());
+
+        Contract unsatisfied = numeric.or(email).validate("abc");
+        assertEquals(2, unsatisfied.getNotifications().size());
+
+        Contract rightBranch = numeric.or(email).validate("a@b");
+        assertEquals(true, rightBranch.isValid());
+    }
+
+    @Test
+    public void orEvaluatesEachBranchOnce() {
+
+        AtomicInteger left = new AtomicInteger();
+        AtomicInteger right = new AtomicInteger();
+        CompositeSpecification<String> first = CompositeSpecification.of("value", "First", s -> left.incrementAndGet() < 0);
+        CompositeSpecification<String> second = CompositeSpecification.of("value", "Second", s -> right.incrementAndGet() < 0);
+
+        Contract contract = first.or(second).validate("abc");
+
+        assertEquals(2, contract.getNotifications().size());
+        assertEquals("First", contract.getNotifications().get(0).getMessage());
+        assertEquals("Second", contract.getNotifications().get(1).getMessage());
+        assertEquals(1, left.get());
+        assertEquals(1, right.get());
+
+        Contract satisfied = second.or(notEmpty).validate("abc");
+
+        assertEquals(true, satisfied.isValid());
+        assertEquals(2, right.get());
+    }
+
+    @Test
+    public void not() {
+
+        CompositeSpecification<String> spec = email.not("value", "Value must not be an e-mail");
+
+        assertEquals(true, spec.isSatisfiedBy("abc"));
+
+        Contract contract = spec.validate("a@b");
+        assertEquals(1, contract.getNotifications().size());
+        assertEquals("Value must not be an e-mail", contract.getNotifications().get(0).getMessage());
+    }
+
+    @Test
+    public void when() {
+
+        CompositeSpecification<String> spec = email.when(s -> s.startsWith("mail:"));
+
+        assertEquals(true, spec.isSatisfiedBy("abc"));
+        assertEquals(false, spec.isSatisfiedBy("mail:abc"));
+        assertEquals(true, spec.isSatisfiedBy("mail:a@b"));
+        assertEquals(1, spec.validate("mail:abc").getNotifications().size());
+    }
+
+    @Test
+    public void fromContract() {
+
+        CompositeSpecification<String> spec = CompositeSpecification.fromContract(s -> new Contract()
+            .requires()
+            .hasMinLen(s, 3, "value", "Value is too short")
+            .hasMaxLen(s, 5, "value", "Value is too long"));
+
+        assertEquals(true, spec.isSatisfiedBy("abcd"));
+
+        Contract contract = new Contract().requires().isTrue(false, "flag", "Flag is false");
+        spec.and(numeric).validate("ab", contract);
+        assertEquals(3, contract.getNotifications().size());
+    }
+}
@@ -0,0 +1,170 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import jflunt.validations.Contract;
+
+public class ConditionalContractTests {
+
+    @Test
+    public void whenScope() {
+
+        Contract contract = new Contract()
+            .requires()
+            .when(false)
+                .isTrue(false, "skipped", "Skipped rule")
+            .end()
+            .when(true)
+                .isTrue(false, "applied", "Applied rule")
+            .end()
+            .isTrue(false, "outside", "Rule outside scope");
+
+        assertEquals(2, contract.getNotifications().size());
+        assertEquals("applied", contract.getNotifications().get(0).getProperty());
+        assertEquals("outside", contract.getNotifications().get(1).getProperty());
+    }
+
+    @Test
+    public void unlessScope() {
+
+        Contract contract = new Contract()
+            .requires()
+            .unless(true)
+                .isTrue(false, "skipped", "Skipped rule")
+            .end()
+            .unless(() -> false)
+                .isTrue(false, "applied", "Applied rule")
+            .end();
+
+        assertEquals(1, contract.getNotifications().size());
+        assertEquals("applied", contract.getNotifications().get(0).getProperty());
+    }
+
+    @Test
+    public void nestedScopesDoNotEvaluateInnerConditions() {
+
+        AtomicInteger conditions = new AtomicInteger();
+
+        Contract contract = new Contract()
+            .requires()
+            .when(false)
+                .when(() -> conditions.incrementAndGet() > 0)
+                    .isTrue(false, "inner", "Inner rule")
+                .end()
+                .isTrue(false, "outer", "Outer rule")
+            .end()
+            .when(true)
+                .when(false)
+                    .isTrue(false, "inner", "Inner rule")
+                .end()
+                .isTrue(false, "outer", "Outer rule")
+            .end();
+
+        assertEquals(0, conditions.get());
+        assertEquals(1, contract.getNotifications().size());
+        assertEquals("outer", contract.getNotifications().get(0).getProperty());
+        assertEquals(false, contract.isSkipping());
+    }
+
+    @Test
+    public void blocksSkipTheirArguments() {
+
+        AtomicInteger parses = new AtomicInteger();
+
+        Contract contract = new Contract()
+            .requires()
+            .when(false, c -> c.isTrue(parses.incrementAndGet() < 0, "skipped", "Skipped rule"))
+            .unless(false, c -> c.isTrue(parses.incrementAndGet() < 0, "applied", "Applied rule"))
+            .when(() -> true, c -> c.hasMinLen("ab", 3, "name", "Name is too short"));
+
+        assertEquals(1, parses.get());
+        assertEquals(2, contract.getNotifications().size());
+    }
+
+    @Test
+    public void lazyValues() {
+
+        AtomicInteger lookups = new AtomicInteger();
+
+        Contract contract = new Contract()
+            .requires()
+            .when(false)
+                .mustBe(() -> lookups.incrementAndGet(), count -> count < 0, "skipped", "Skipped rule")
+                .mustBe(() -> lookups.incrementAndGet() < 0, "skipped", "Skipped validator")
+            .end()
+            .mustBe(() -> "12a".length(), length -> length == 2, "code", "Code has the wrong length");
+
+        assertEquals(0, lookups.get());
+        assertEquals(1, contract.getNotifications().size());
+    }
+
+    @Test
+    public void skippedScopesIgnoreJoins() {
+
+        Contract invalid = new Contract().requires().isTrue(false, "flag", "Flag is false");
+
+        Contract contract = new Contract()
+            .requires()
+            .when(false)
+            .join(invalid)
+            .end();
+
+        assertEquals(true, contract.isValid());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endWithoutScope() {
+        new Contract().requires().end();
+    }
+
+    @Test
+    public void blocksCloseTheirScopeWhenRulesThrow() {
+
+        Contract contract = new Contract().requires();
+
+        try {
+            contract.when(true, c -> {
+                throw new IllegalArgumentException("lookup failed");
+            });
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("lookup failed", e.getMessage());
+        }
+
+        contract.isTrue(false, "flag", "Flag is false");
+
+        assertEquals(false, contract.isSkipping());
+        assertEquals(false, contract.isValid());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unbalancedScopesFailOnResult() {
+        new Contract().requires().when(false).isTrue(false, "flag", "Flag is false").isValid();
+    }
+
+    @Test
+    public void scopeLimit() {
+
+        Contract contract = new Contract().requires();
+        for (int i = 0; i < 64; i++) {
+            contract.when(true);
+        }
+
+        try {
+            contract.when(true);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("Too many nested when/unless scopes", e.getMessage());
+        }
+
+        for (int i = 0; i < 64; i++) {
+            contract.end();
+        }
+        assertEquals(true, contract.isValid());
+    }
+}
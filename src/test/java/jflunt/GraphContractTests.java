@@ -0,0 +1,152 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import jflunt.notifications.Notification;
+import jflunt.validations.Contract;
+import jflunt.validations.GraphContract;
+import jflunt.validations.GraphValidator;
+
+public class GraphContractTests {
+
+    static class Customer {
+        String name;
+        Order lastOrder;
+
+        Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    static class Order {
+        Customer customer;
+        List<Line> lines = new ArrayList<Line>();
+    }
+
+    static class Line {
+        String sku;
+        int quantity;
+
+        Line(String sku, int quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+
+    private static final GraphValidator<Line> LINE = (line, contract) -> {
+        contract.hasMinLen(line.sku, 3, "sku", "Sku is too short");
+        contract.isGreaterThan(line.quantity, 0, "quantity", "Quantity must be positive");
+    };
+
+    private static final GraphValidator<Customer> CUSTOMER = new GraphValidator<Customer>() {
+        @Override
+        public void validate(Customer customer, GraphContract contract) {
+            contract.isNotNullOrEmpty(customer.name, "name", "Name is empty");
+            contract.validate("lastOrder", customer.lastOrder, ORDER);
+        }
+    };
+
+    private static final GraphValidator<Order> ORDER = (order, contract) -> {
+        contract.isNotNull(order.customer, "customer", "Customer is missing");
+        contract.validate("customer", order.customer, CUSTOMER);
+        contract.validateEach("lines", order.lines, LINE);
+    };
+
+    @Test
+    public void prefixesNestedPaths() {
+
+        Order order = new Order();
+        order.lines.add(new Line("ABC", 1));
+        order.lines.add(new Line("X", 2));
+        order.lines.add(new Line("DEF", 0));
+        order.customer = new Customer("");
+
+        Contract contract = new GraphContract().validate(order, ORDER);
+
+        assertEquals(Arrays.asList("customer.name", "lines[1].sku", "lines[2].quantity"), properties(contract));
+    }
+
+    @Test
+    public void detectsCycles() {
+
+        Customer customer = new Customer("");
+        Order order = new Order();
+        order.customer = customer;
+        customer.lastOrder = order;
+        order.lines.add(new Line("X", 1));
+
+        Contract contract = new GraphContract().validate(order, ORDER);
+
+        assertEquals(Arrays.asList("customer.name", "lines[0].sku"), properties(contract));
+    }
+
+    @Test
+    public void validatesSharedChildrenOnEveryPath() {
+
+        Line shared = new Line("X", 1);
+        Order order = new Order();
+        order.customer = new Customer("Ann");
+        order.lines.add(shared);
+        order.lines.add(shared);
+
+        Contract contract = new GraphContract().validate(order, ORDER);
+
+        assertEquals(Arrays.asList("lines[0].sku", "lines[1].sku"), properties(contract));
+    }
+
+    @Test
+    public void stopsAtMaxDepth() {
+
+        Customer customer = new Customer("");
+        Order order = new Order();
+        order.customer = customer;
+        order.lines.add(new Line("X", 1));
+
+        assertEquals(0, new GraphContract().withMaxDepth(0).validate(order, ORDER).getNotifications().size());
+        assertEquals(2, new GraphContract().withMaxDepth(1).validate(order, ORDER).getNotifications().size());
+    }
+
+    @Test
+    public void failFastStopsDescending() {
+
+        Order order = new Order();
+        order.lines.add(new Line("X", 1));
+        order.lines.add(new Line("Y", 1));
+
+        GraphContract contract = new GraphContract().failFast();
+        contract.validate(order, ORDER);
+
+        assertEquals(Arrays.asList("customer"), properties(contract));
+        assertEquals(0, contract.getDepth());
+        assertEquals(true, contract.getPath().isRoot());
+    }
+
+    @Test
+    public void joinsNotifiableChildren() {
+
+        Contract first = new Contract().requires().hasLen("1", 2, "prefix", "Prefix must be 2 characters");
+        Contract second = new Contract().requires();
+        Contract third = new Contract().requires().hasLen("1", 9, "number", "Number must be 9 characters");
+
+        GraphContract contract = new GraphContract();
+        contract.joinEach("phones", Arrays.asList(first, second, third));
+        contract.join("owner", first);
+        contract.validate("owner", "x", (owner, nested) -> nested.join(third));
+
+        assertEquals(Arrays.asList("phones[0].prefix", "phones[2].number", "owner.prefix", "owner.number"), properties(contract));
+    }
+
+    private static List<String> properties(Contract contract) {
+        List<String> properties = new ArrayList<String>();
+        for (Notification notification : contract.getNotifications()) {
+            properties.add(notification.getProperty());
+        }
+        return properties;
+    }
+}
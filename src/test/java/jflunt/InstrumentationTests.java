@@ -0,0 +1,145 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jflunt.instrumentation.Instrumentation;
+import jflunt.instrumentation.LatencyHistogram;
+import jflunt.instrumentation.LatencySnapshot;
+import jflunt.instrumentation.RuleMetrics;
+import jflunt.instrumentation.RuleMetricsRecorder;
+import jflunt.rules.RuleSet;
+import jflunt.validations.Contract;
+
+public class InstrumentationTests {
+
+    @After
+    public void uninstall() {
+        Instrumentation.uninstall();
+    }
+
+    @Test
+    public void recordsMustBeEvaluations() {
+
+        RuleMetricsRecorder recorder = new RuleMetricsRecorder();
+        Instrumentation.install(recorder);
+
+        new Contract()
+            .requires()
+            .mustBe(() -> false, "name", "process error")
+            .mustBe(() -> true, "name", "process error");
+
+        List<RuleMetrics> metrics = recorder.snapshot();
+
+        assertEquals(1, metrics.size());
+        assertEquals("name", metrics.get(0).getProperty());
+        assertEquals("mustBe", metrics.get(0).getRule());
+        assertEquals(2, metrics.get(0).getInvocations());
+        assertEquals(1, metrics.get(0).getFailures());
+        assertEquals(2, metrics.get(0).getLatency().getCount());
+    }
+
+    @Test
+    public void recordsRuleSetEvaluations() {
+
+        RuleMetricsRecorder recorder = new RuleMetricsRecorder();
+        Instrumentation.install(recorder);
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 2)
+            .rule("digits", "value", "Invalid digits", val -> val.matches("^\\d+$"));
+
+        rules.validate("123");
+        rules.validate("abc");
+
+        for (RuleMetrics metrics : recorder.snapshot()) {
+            assertEquals("value", metrics.getProperty());
+            assertEquals(2, metrics.getInvocations());
+            assertEquals(metrics.getRule().equals("digits") ? 1 : 0, metrics.getFailures());
+        }
+        assertEquals(2, recorder.snapshot().size());
+    }
+
+    @Test
+    public void recordsBuiltInRuleEvaluations() {
+
+        RuleMetricsRecorder recorder = new RuleMetricsRecorder();
+        Instrumentation.install(recorder);
+
+        new Contract()
+            .requires()
+            .isEmail("not an email", "email", "Invalid email")
+            .hasMaxLen("too long", 3, "name", "Name is too long")
+            .hasMaxLen("ok", 3, "name", "Name is too long")
+            .isEmail("still not an email", "email", "Invalid email")
+            .isUrl("https://example.com", "site", "Invalid url");
+
+        List<RuleMetrics> metrics = recorder.snapshot();
+
+        assertEquals(3, metrics.size());
+        for (RuleMetrics rule : metrics) {
+            if (rule.getProperty().equals("email")) {
+                assertEquals("isEmail", rule.getRule());
+                assertEquals(2, rule.getFailures());
+            } else if (rule.getProperty().equals("name")) {
+                assertEquals("hasMaxLen", rule.getRule());
+                assertEquals(1, rule.getFailures());
+            } else {
+                assertEquals("isUrl", rule.getRule());
+                assertEquals(0, rule.getFailures());
+            }
+            assertEquals(rule.getProperty().equals("site") ? 1 : 2, rule.getInvocations());
+            assertEquals(rule.getInvocations(), rule.getLatency().getCount());
+        }
+    }
+
+    @Test
+    public void skippedRulesAreNotRecorded() {
+
+        RuleMetricsRecorder recorder = new RuleMetricsRecorder();
+        Instrumentation.install(recorder);
+
+        new Contract()
+            .requires()
+            .when(false)
+            .isTrue(false, "flag", "Flag is false")
+            .end();
+
+        assertTrue(recorder.snapshot().isEmpty());
+    }
+
+    @Test
+    public void recordsNothingWhenDisabled() {
+
+        RuleMetricsRecorder recorder = new RuleMetricsRecorder();
+
+        new Contract()
+            .requires()
+            .mustBe(() -> false, "name", "process error");
+
+        assertTrue(recorder.snapshot().isEmpty());
+    }
+
+    @Test
+    public void histogramPercentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1000000, snapshot.getMaxNanos());
+        assertEquals(500500.0, snapshot.getMeanNanos(), 0.001);
+        assertEquals(500000, snapshot.getValueAtPercentile(50), 500000 / 16);
+        assertEquals(990000, snapshot.getValueAtPercentile(99), 990000 / 16);
+        assertEquals(1000000, snapshot.getValueAtPercentile(100));
+    }
+}
@@ -1,22 +1,37 @@
 package jflunt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.After;
 import org.junit.Test;
 
 import jflunt.validations.Contract;
+import jflunt.validations.time.CoarseClock;
+import jflunt.validations.time.EpochUnit;
+import jflunt.validations.time.TimeWindow;
+import jflunt.validations.time.ValidationClock;
 
 public class JavaTimeValidationContractTests {
 
+    @After
+    public void resetClock() {
+        ValidationClock.reset();
+    }
+
     @Test
     public void isGreaterThan_LocalDateTime() {
 
@@ -470,4 +485,420 @@ public class JavaTimeValidationContractTests {
 
         assertEquals(true, right.isValid());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void isBetween_TimeWindow_Instant() {
+
+        Instant from = Instant.parse("2019-01-01T00:00:00Z");
+        TimeWindow window = TimeWindow.between(from, from.plusSeconds(60));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isBetween(from, window, "instant", "Instant is not in the window")
+                .isBetween(from.plusSeconds(60), window, "instant", "Instant is not in the window")
+                .isBetween(from.minusNanos(1), window, "instant", "Instant is not in the window")
+                .isBetween((Instant) null, window, "instant", "Instant is not in the window");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(4, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isBetween(from.plusNanos(1), window, "instant", "Instant is not in the window")
+                .isBetween(from.plusSeconds(59), window, "instant", "Instant is not in the window");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void isBetween_TimeWindow_ZonedDateTime() {
+
+        ZonedDateTime from = ZonedDateTime.of(2019, 1, 1, 10, 0, 0, 0, ZoneId.of("America/Sao_Paulo"));
+        TimeWindow window = TimeWindow.between(from, from.plusHours(1));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isBetween(from.withZoneSameInstant(ZoneOffset.UTC), window, "date", "Date is not in the window")
+                .isBetween(from.plusHours(2), window, "date", "Date is not in the window");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isBetween(from.plusMinutes(30).withZoneSameInstant(ZoneOffset.UTC), window, "date", "Date is not in the window")
+                .isBetween(from.plusMinutes(30).toInstant(), window, "date", "Date is not in the window");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void isBetween_TimeWindow_Local() {
+
+        LocalDateTime date = LocalDateTime.of(2005, 7, 14, 16, 0, 0);
+        TimeWindow dateTimes = TimeWindow.between(date, date.plusDays(1));
+        TimeWindow dates = TimeWindow.between(date.toLocalDate(), date.toLocalDate().plusDays(2));
+        TimeWindow times = TimeWindow.between(date.toLocalTime(), date.toLocalTime().plusHours(1));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isBetween(date.minusNanos(1), dateTimes, "date", "Date is not in the window")
+                .isBetween(date.toLocalDate(), dates, "date", "Date is not in the window")
+                .isBetween(date.toLocalTime().plusHours(1), times, "date", "Date is not in the window");
+
+        assertEquals(3, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isBetween(date.plusHours(23), dateTimes, "date", "Date is not in the window")
+                .isBetween(date.toLocalDate().plusDays(1), dates, "date", "Date is not in the window")
+                .isBetween(date.toLocalTime().plusMinutes(59), times, "date", "Date is not in the window");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void isBetween_TimeWindow_RejectsOtherTimelines() {
+
+        LocalDate date = LocalDate.of(2005, 7, 14);
+
+        new Contract()
+                .requires()
+                .isBetween(date.atStartOfDay(), TimeWindow.between(date, date.plusDays(2)), "date", "Date is not in the window");
+    }
+
+    @Test
+    public void isWithin() {
+
+        Instant now = Instant.parse("2019-01-01T12:00:00Z");
+        ValidationClock.use(Clock.fixed(now, ZoneOffset.UTC));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isWithin(now.minusSeconds(61), Duration.ofMinutes(1), "instant", "Instant is too far from now")
+                .isWithin(now.plusSeconds(60).plusNanos(1), Duration.ofMinutes(1), "instant", "Instant is too far from now")
+                .isWithin(LocalDateTime.of(2019, 1, 1, 14, 0), Duration.ofHours(1), "date", "Date is too far from now")
+                .isWithin((Instant) null, Duration.ofMinutes(1), "instant", "Instant is too far from now");
+
+        assertEquals(4, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isWithin(now.minusSeconds(60), Duration.ofMinutes(1), "instant", "Instant is too far from now")
+                .isWithin(now.plusMillis(59999), Duration.ofMinutes(1), "instant", "Instant is too far from now")
+                .isWithin(now.atZone(ZoneId.of("Asia/Tokyo")).minusMinutes(1), Duration.ofMinutes(1), "date", "Date is too far from now")
+                .isWithin(LocalDateTime.of(2019, 1, 1, 12, 30), Duration.ofHours(1), "date", "Date is too far from now");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void isNotInFuture() {
+
+        Instant now = Instant.parse("2019-01-01T12:00:00Z");
+        ValidationClock.use(Clock.fixed(now, ZoneOffset.ofHours(-3)));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isNotInFuture(now.plusNanos(1), "date", "Date is in the future")
+                .isNotInFuture(LocalDateTime.of(2019, 1, 1, 9, 0, 1), "date", "Date is in the future")
+                .isNotInFuture(LocalDate.of(2019, 1, 2), "date", "Date is in the future")
+                .isNotInFuture((Instant) null, "date", "Date is in the future");
+
+        assertEquals(4, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isNotInFuture(now, "date", "Date is in the future")
+                .isNotInFuture(now.atZone(ZoneOffset.UTC).minusDays(1), "date", "Date is in the future")
+                .isNotInFuture(LocalDateTime.of(2019, 1, 1, 9, 0, 0), "date", "Date is in the future")
+                .isNotInFuture(LocalDate.of(2019, 1, 1), "date", "Date is in the future");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void isNotOlderThan() {
+
+        Instant now = Instant.parse("2019-01-31T00:00:00Z");
+        ValidationClock.use(Clock.fixed(now, ZoneOffset.UTC));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isNotOlderThan(now.minus(Duration.ofDays(30)).minusNanos(1), Duration.ofDays(30), "date", "Date is too old")
+                .isNotOlderThan(LocalDateTime.of(2018, 12, 31, 23, 59), Duration.ofDays(30), "date", "Date is too old");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isNotOlderThan(now.minus(Duration.ofDays(30)), Duration.ofDays(30), "date", "Date is too old")
+                .isNotOlderThan(now.atZone(ZoneOffset.UTC).plusDays(1), Duration.ofDays(30), "date", "Date is too old")
+                .isNotOlderThan(LocalDateTime.of(2019, 1, 1, 0, 0), Duration.ofDays(30), "date", "Date is too old");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void localValuesUseTheClockZone() {
+
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        ValidationClock.use(Clock.system(tokyo));
+
+        Contract right = new Contract()
+                .requires()
+                .isWithin(LocalDateTime.now(tokyo), Duration.ofMinutes(1), "date", "Date is too far from now")
+                .isNotOlderThan(LocalDateTime.now(tokyo), Duration.ofMinutes(1), "date", "Date is too old");
+
+        assertEquals(true, right.isValid());
+
+        Contract wrong = new Contract()
+                .requires()
+                .isWithin(LocalDateTime.now(ZoneOffset.UTC), Duration.ofMinutes(1), "date", "Date is too far from now");
+
+        assertEquals(false, wrong.isValid());
+    }
+
+    @Test
+    public void defaultClockUsesTheSystemZone() {
+
+        ValidationClock.reset();
+
+        assertEquals(ZoneId.systemDefault(), ValidationClock.get().getZone());
+
+        Contract contract = new Contract()
+                .requires()
+                .isWithin(LocalDateTime.now(), Duration.ofMinutes(1), "date", "Date is too far from now");
+
+        assertEquals(true, contract.isValid());
+    }
+
+    @Test
+    public void coarseClockKeepsTheValidationZone() {
+
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        ValidationClock.use(Clock.system(tokyo));
+
+        Contract current = new Contract()
+                .requires()
+                .isNotInFuture(LocalDateTime.now(tokyo), "date", "Date is in the future")
+                .isNotInFuture(LocalDate.now(tokyo), "date", "Date is in the future");
+
+        assertEquals(true, current.isValid());
+
+        CoarseClock coarse = ValidationClock.useCoarse(Duration.ofMillis(1));
+
+        assertEquals(tokyo, coarse.getZone());
+
+        Contract coarseRight = new Contract()
+                .requires()
+                .isNotInFuture(LocalDateTime.now(tokyo).minusSeconds(1), "date", "Date is in the future")
+                .isNotOlderThan(LocalDateTime.now(tokyo), Duration.ofMinutes(1), "date", "Date is too old");
+
+        assertEquals(true, coarseRight.isValid());
+
+        try (CoarseClock system = CoarseClock.start(Duration.ofHours(1))) {
+            assertEquals(ZoneId.systemDefault(), system.getZone());
+        }
+    }
+
+    @Test
+    public void coarseClock() {
+
+        MutableClock source = new MutableClock(Instant.parse("2019-01-01T12:00:00Z"));
+
+        try (CoarseClock clock = CoarseClock.start(source, Duration.ofHours(1))) {
+            source.now = source.now.plusSeconds(1);
+
+            assertEquals(Instant.parse("2019-01-01T12:00:00Z"), clock.instant());
+
+            clock.refresh();
+
+            assertEquals(Instant.parse("2019-01-01T12:00:01Z"), clock.instant());
+            assertEquals(clock.instant(), clock.instant());
+        }
+    }
+
+    @Test
+    public void coarseClockTicks() throws InterruptedException {
+
+        MutableClock source = new MutableClock(Instant.parse("2019-01-01T12:00:00Z"));
+
+        try (CoarseClock clock = CoarseClock.start(source, Duration.ofMillis(1))) {
+            source.now = Instant.parse("2019-01-01T12:00:01Z");
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!clock.instant().equals(source.now) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(source.now, clock.instant());
+        }
+    }
+
+    @Test
+    public void coarseClockZonesHaveTheirOwnLifecycle() {
+
+        CoarseClock clock = CoarseClock.start(Duration.ofHours(1));
+        CoarseClock tokyo = (CoarseClock) clock.withZone(ZoneId.of("Asia/Tokyo"));
+
+        tokyo.close();
+
+        assertEquals(false, tokyo.isRunning());
+        assertEquals(true, clock.isRunning());
+
+        clock.close();
+
+        assertEquals(false, clock.isRunning());
+    }
+
+    @Test
+    public void validationClockClosesOnlyClocksItCreated() {
+
+        try (CoarseClock own = CoarseClock.start(Duration.ofHours(1))) {
+            ValidationClock.use(own);
+            ValidationClock.reset();
+
+            assertEquals(true, own.isRunning());
+        }
+
+        CoarseClock created = ValidationClock.useCoarse(Duration.ofHours(1));
+        ValidationClock.reset();
+
+        assertEquals(false, created.isRunning());
+    }
+
+    @Test
+    public void epochComparisons() {
+
+        long millis = Instant.parse("2019-01-01T00:00:00Z").toEpochMilli();
+
+        Contract wrong = new Contract()
+                .requires()
+                .isGreaterThan(millis, EpochUnit.MILLIS, millis, EpochUnit.MILLIS, "date", "Date 1 should be greater than Date 2")
+                .isGreaterOrEqualsThan(millis, EpochUnit.MILLIS, millis + 1, EpochUnit.MILLIS, "date", "Date 1 should be greater or equals than Date 2")
+                .isLowerThan(millis, EpochUnit.MILLIS, millis, EpochUnit.MILLIS, "date", "Date 1 should be lower than Date 2")
+                .isLowerOrEqualsThan(millis + 1, EpochUnit.MILLIS, millis, EpochUnit.MILLIS, "date", "Date 1 should be lower or equals than Date 2")
+                .isBetween(millis, EpochUnit.MILLIS, millis, millis + 10, EpochUnit.MILLIS, "date", "Date should be between Date 1 and Date 2")
+                .isGreaterThan(millis * 1000000, EpochUnit.NANOS, millis, EpochUnit.MILLIS, "date", "Date 1 should be greater than Date 2")
+                .isLowerThan(millis * 1000 - 1, EpochUnit.MICROS, millis - 1, EpochUnit.MILLIS, "date", "Date 1 should be lower than Date 2");
+
+        assertEquals(7, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isGreaterThan(millis + 1, EpochUnit.MILLIS, millis, EpochUnit.MILLIS, "date", "Date 1 should be greater than Date 2")
+                .isGreaterOrEqualsThan(millis, EpochUnit.MILLIS, millis, EpochUnit.MILLIS, "date", "Date 1 should be greater or equals than Date 2")
+                .isLowerThan(millis, EpochUnit.MILLIS, millis + 1, EpochUnit.MILLIS, "date", "Date 1 should be lower than Date 2")
+                .isLowerOrEqualsThan(millis, EpochUnit.MILLIS, millis, EpochUnit.MILLIS, "date", "Date 1 should be lower or equals than Date 2")
+                .isBetween(millis + 5, EpochUnit.MILLIS, millis, millis + 10, EpochUnit.MILLIS, "date", "Date should be between Date 1 and Date 2")
+                .isGreaterThan(millis * 1000000 + 1, EpochUnit.NANOS, millis, EpochUnit.MILLIS, "date", "Date 1 should be greater than Date 2")
+                .isGreaterOrEqualsThan(millis * 1000, EpochUnit.MICROS, millis, EpochUnit.MILLIS, "date", "Date 1 should be greater or equals than Date 2")
+                .isBetween(millis * 1000 + 1, EpochUnit.MICROS, millis * 1000000, millis * 1000000 + 1000000, EpochUnit.NANOS, "date", "Date should be between Date 1 and Date 2");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void epochComparisonsRejectMixedTimelines() {
+
+        new Contract()
+                .requires()
+                .isGreaterThan(LocalDate.of(2019, 1, 1).toEpochDay(), EpochUnit.DAYS, 0, EpochUnit.MILLIS, "date", "Date 1 should be greater than Date 2");
+    }
+
+    @Test
+    public void epochTimeWindow() {
+
+        Instant from = Instant.parse("1969-12-31T23:59:59.999Z");
+        TimeWindow window = TimeWindow.between(from, from.plusSeconds(1));
+        long nanos = from.getEpochSecond() * 1000000000L + from.getNano();
+
+        Contract wrong = new Contract()
+                .requires()
+                .isBetween(from.toEpochMilli(), window, EpochUnit.MILLIS, "date", "Date is not in the window")
+                .isBetween(nanos + 1000000000L, window, EpochUnit.NANOS, "date", "Date is not in the window");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isBetween(from.toEpochMilli() + 1, window, EpochUnit.MILLIS, "date", "Date is not in the window")
+                .isBetween(nanos + 1, window, EpochUnit.NANOS, "date", "Date is not in the window")
+                .isBetween((nanos + 1000) / 1000, window, EpochUnit.MICROS, "date", "Date is not in the window")
+                .isBetween(LocalDate.of(2019, 1, 2).toEpochDay(),
+                    TimeWindow.between(LocalDate.of(2019, 1, 1), LocalDate.of(2019, 1, 3)), EpochUnit.DAYS, "date", "Date is not in the window");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void epochNowRelative() {
+
+        Instant now = Instant.parse("2019-01-31T00:00:00Z");
+        ValidationClock.use(Clock.fixed(now, ZoneOffset.UTC));
+
+        Contract wrong = new Contract()
+                .requires()
+                .isNotInFuture(now.toEpochMilli() + 1, EpochUnit.MILLIS, "date", "Date is in the future")
+                .isNotInFuture(LocalDate.of(2019, 2, 1).toEpochDay(), EpochUnit.DAYS, "date", "Date is in the future")
+                .isNotOlderThan(now.toEpochMilli() - Duration.ofDays(30).toMillis() - 1, Duration.ofDays(30), EpochUnit.MILLIS, "date", "Date is too old")
+                .isWithin(now.toEpochMilli() + 1001, Duration.ofSeconds(1), EpochUnit.MILLIS, "date", "Date is too far from now");
+
+        assertEquals(4, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+                .requires()
+                .isNotInFuture(now.toEpochMilli() * 1000, EpochUnit.MICROS, "date", "Date is in the future")
+                .isNotInFuture(LocalDate.of(2019, 1, 31).toEpochDay(), EpochUnit.DAYS, "date", "Date is in the future")
+                .isNotOlderThan(now.toEpochMilli() - Duration.ofDays(30).toMillis(), Duration.ofDays(30), EpochUnit.MILLIS, "date", "Date is too old")
+                .isWithin(now.toEpochMilli() - 1000, Duration.ofSeconds(1), EpochUnit.MILLIS, "date", "Date is too far from now");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void epochDaysAreNotInstants() {
+
+        try {
+            new Contract()
+                    .requires()
+                    .isNotOlderThan(LocalDate.of(2019, 1, 31).toEpochDay(), Duration.ofDays(30), EpochUnit.DAYS, "date", "Date is too old");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("isNotOlderThan needs an instant unit (MILLIS, MICROS or NANOS), not DAYS", e.getMessage());
+        }
+
+        try {
+            new Contract()
+                    .requires()
+                    .isWithin(LocalDate.of(2019, 1, 31).toEpochDay(), Duration.ofDays(1), EpochUnit.DAYS, "date", "Date is too far from now");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("isWithin needs an instant unit (MILLIS, MICROS or NANOS), not DAYS", e.getMessage());
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.now;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jflunt.validations.Contract;
+import jflunt.validations.membership.MappedKeySet;
+import jflunt.validations.membership.MappedKeySet.Kind;
+import jflunt.validations.membership.MappedKeySetBuilder;
+
+public class MappedKeySetTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void longKeys() throws IOException {
+
+        Random random = new Random(7);
+        long[] values = new long[5000];
+        MappedKeySetBuilder builder = new MappedKeySetBuilder(Kind.LONG);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000000) - 500000;
+            builder.add(values[i]);
+        }
+        Path file = folder.newFile().toPath();
+        builder.writeTo(file);
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        try (MappedKeySet set = MappedKeySet.open(file)) {
+            assertEquals(Kind.LONG, set.getKind());
+            assertEquals(Arrays.stream(values).distinct().count(), set.size());
+            for (long val = -510000; val < 510000; val += 7) {
+                assertEquals(Arrays.binarySearch(sorted, val) >= 0, set.contains(val));
+            }
+            for (long val : values) {
+                assertEquals(true, set.contains(val));
+            }
+        }
+    }
+
+    @Test
+    public void uuidKeys() throws IOException {
+
+        List<UUID> uuids = new ArrayList<UUID>();
+        MappedKeySetBuilder builder = new MappedKeySetBuilder(Kind.UUID);
+        for (int i = 0; i < 3000; i++) {
+            UUID uuid = UUID.randomUUID();
+            uuids.add(uuid);
+            builder.add(uuid);
+        }
+        builder.add(uuids.get(0));
+        Path file = folder.newFile().toPath();
+
+        assertEquals(3000, builder.writeTo(file));
+
+        try (MappedKeySet set = MappedKeySet.open(file)) {
+            for (UUID uuid : uuids) {
+                assertEquals(true, set.contains(uuid));
+            }
+            assertEquals(false, set.contains(UUID.randomUUID()));
+            assertEquals(false, set.contains((UUID) null));
+        }
+    }
+
+    @Test
+    public void stringKeysFromText() throws IOException {
+
+        Path source = folder.newFile("blocked.txt").toPath();
+        Files.write(source, Arrays.asList("# blocked e-mails", "spam@example.com", "", "  fraud@example.com  ", "spam@example.com"), StandardCharsets.UTF_8);
+        Path file = folder.getRoot().toPath().resolve("blocked.keys");
+
+        assertEquals(2, new MappedKeySetBuilder(Kind.STRING).addLines(source).writeTo(file));
+
+        try (MappedKeySet set = MappedKeySet.open(file)) {
+            assertEquals(true, set.contains("fraud@example.com"));
+            assertEquals(true, set.contains(new StringBuilder("spam@example.com")));
+            assertEquals(false, set.contains("ham@example.com"));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsForeignFiles() throws IOException {
+
+        Path file = folder.newFile().toPath();
+        Files.write(file, "not a key set at all".getBytes(StandardCharsets.UTF_8));
+
+        MappedKeySet.open(file);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsKindMismatch() throws IOException {
+
+        Path file = folder.newFile().toPath();
+        new MappedKeySetBuilder(Kind.LONG).add(1).writeTo(file);
+
+        try (MappedKeySet set = MappedKeySet.open(file)) {
+            set.contains("1");
+        }
+    }
+
+    @Test
+    public void isIn() throws IOException {
+
+        UUID blocked = UUID.randomUUID();
+        Path uuids = folder.newFile().toPath();
+        Path ids = folder.newFile().toPath();
+        new MappedKeySetBuilder(Kind.UUID).add(blocked).writeTo(uuids);
+        new MappedKeySetBuilder(Kind.LONG).add(10).add(20).writeTo(ids);
+
+        try (MappedKeySet denyList = MappedKeySet.open(uuids); MappedKeySet allowList = MappedKeySet.open(ids)) {
+            Contract wrong = new Contract()
+                .requires()
+                .isNotIn(blocked, denyList, "customer", "Customer is blocked")
+                .isIn(30L, allowList, "id", "Id is not allowed");
+
+            assertEquals(false, wrong.isValid());
+            assertEquals(2, wrong.getNotifications().size());
+
+            Contract right = new Contract()
+                .requires()
+                .isNotIn(UUID.randomUUID(), denyList, "customer", "Customer is blocked")
+                .isIn(20, allowList, "id", "Id is not allowed");
+
+            assertEquals(true, right.isValid());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import jflunt.validations.Contract;
+import jflunt.validations.membership.BloomFilter;
+import jflunt.validations.membership.LongHashSet;
+import jflunt.validations.membership.LongSet;
+import jflunt.validations.membership.SortedLongSet;
+import jflunt.validations.membership.StringSet;
+import jflunt.validations.membership.UuidSet;
+
+public class MembershipTests {
+
+    @Test
+    public void longSets() {
+
+        Random random = new Random(42);
+        long[] values = new long[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        values[0] = 0L;
+        values[1] = Long.MIN_VALUE;
+
+        LongSet[] sets = {
+            LongHashSet.of(values),
+            SortedLongSet.of(values),
+            LongHashSet.of(values).withBloomFilter(0.01),
+            SortedLongSet.of(values).withBloomFilter(0.01)
+        };
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (LongSet set : sets) {
+            assertEquals(values.length, set.size());
+            for (long val : values) {
+                assertEquals(true, set.contains(val));
+            }
+            for (int i = 0; i < 10000; i++) {
+                long val = random.nextLong();
+                assertEquals(Arrays.binarySearch(sorted, val) >= 0, set.contains(val));
+            }
+        }
+    }
+
+    @Test
+    public void longHashSetIgnoresDuplicates() {
+
+        LongHashSet set = LongHashSet.of(1, 2, 2, 0, 0);
+
+        assertEquals(3, set.size());
+        assertEquals(false, set.add(1));
+        assertEquals(true, set.add(3));
+        assertEquals(true, set.contains(0));
+        assertEquals(false, set.contains(4));
+    }
+
+    @Test
+    public void bloomFilter() {
+
+        BloomFilter filter = new BloomFilter(10000, 0.01);
+        for (long i = 0; i < 10000; i++) {
+            filter.put(BloomFilter.hash(i));
+        }
+
+        int falsePositives = 0;
+        for (long i = 10000; i < 110000; i++) {
+            if (filter.mightContain(BloomFilter.hash(i)))
+                falsePositives++;
+        }
+        for (long i = 0; i < 10000; i++) {
+            assertEquals(true, filter.mightContain(BloomFilter.hash(i)));
+        }
+        assertEquals(true, falsePositives < 2000);
+    }
+
+    @Test
+    public void uuidSet() {
+
+        List<UUID> uuids = new ArrayList<UUID>();
+        for (int i = 0; i < 1000; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+        uuids.add(uuids.get(0));
+
+        UuidSet set = UuidSet.of(uuids);
+        UuidSet filtered = set.withBloomFilter(0.001);
+
+        assertEquals(1000, set.size());
+        for (UUID uuid : uuids) {
+            assertEquals(true, set.contains(uuid));
+            assertEquals(true, filtered.contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        }
+        assertEquals(false, set.contains(UUID.randomUUID()));
+        assertEquals(false, filtered.contains(UUID.randomUUID()));
+        assertEquals(false, set.contains((UUID) null));
+    }
+
+    @Test
+    public void stringSet() {
+
+        StringSet set = StringSet.of("admin", "root", "guest", "root");
+        StringSet filtered = set.withBloomFilter(0.01);
+
+        assertEquals(3, set.size());
+        assertEquals(true, set.contains(new StringBuilder("root")));
+        assertEquals(true, filtered.contains("guest"));
+        assertEquals(false, set.contains("roo"));
+        assertEquals(false, filtered.contains("user"));
+        assertEquals(false, set.contains(null));
+    }
+
+    @Test
+    public void isIn() {
+
+        UUID blocked = UUID.randomUUID();
+        UuidSet denyList = UuidSet.of(Arrays.asList(blocked)).withBloomFilter(0.01);
+
+        Contract wrong = new Contract()
+            .requires()
+            .isIn("other", StringSet.of("BRL", "USD"), "currency", "Currency is not supported")
+            .isIn(7L, LongHashSet.of(1, 2, 3), "id", "Id is not allowed")
+            .isNotIn(blocked, denyList, "customer", "Customer is blocked")
+            .isNotIn("root", StringSet.of("root"), "login", "Login is reserved");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(4, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isIn("BRL", StringSet.of("BRL", "USD"), "currency", "Currency is not supported")
+            .isIn(2, SortedLongSet.of(1, 2, 3), "id", "Id is not allowed")
+            .isNotIn(UUID.randomUUID(), denyList, "customer", "Customer is blocked")
+            .isIn(blocked, denyList, "customer", "Customer is not blocked")
+            .isNotIn(5L, LongHashSet.of(1, 2, 3), "id", "Id is denied");
+
+        assertEquals(true, right.isValid());
+    }
+}
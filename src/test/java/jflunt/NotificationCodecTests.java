@@ -0,0 +1,141 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import jflunt.notifications.EncodedNotifications;
+import jflunt.notifications.Notification;
+import jflunt.notifications.NotificationCodec;
+import jflunt.notifications.PropertyPath;
+import jflunt.validations.Contract;
+
+public class NotificationCodecTests {
+
+    @Test
+    public void roundTrips() {
+
+        PropertyPath lines = PropertyPath.of("order.lines");
+        List<Notification> notifications = Arrays.asList(
+            new Notification("name", "Name is empty"),
+            new Notification(lines.index(0).child("price"), "Price out of range"),
+            new Notification(lines.index(7).child("price"), "Price out of range"),
+            new Notification("odd..property[x]", "Odd property kept verbatim"),
+            new Notification("", "Empty property"),
+            new Notification((String) null, null),
+            new Notification("ação", "Descrição inválida"));
+
+        EncodedNotifications decoded = NotificationCodec.decode(NotificationCodec.encode(notifications));
+
+        assertEquals(notifications.size(), decoded.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            assertEquals(notifications.get(i).getProperty(), decoded.get(i).getProperty());
+            assertEquals(notifications.get(i).getMessage(), decoded.get(i).getMessage());
+            assertEquals(notifications.get(i).getMessage(), decoded.getMessage(i));
+        }
+        assertEquals(lines.index(7).child("price"), decoded.get(2).getPath());
+        assertNull(decoded.get(5).getProperty());
+        assertEquals(false, decoded.hasCodes());
+    }
+
+    @Test
+    public void encodesContracts() {
+
+        Contract contract = new Contract()
+            .requires()
+            .isTrue(false, "accepted", "Terms were not accepted")
+            .hasMinLen("ab", 3, "name", "Name is too short");
+
+        Contract copy = new Contract();
+        copy.addNotifications(NotificationCodec.decode(NotificationCodec.encode(contract)));
+
+        assertEquals(2, copy.getNotifications().size());
+        assertEquals("name", copy.getNotifications().get(1).getProperty());
+    }
+
+    @Test
+    public void carriesCodes() {
+
+        List<Notification> notifications = Arrays.asList(
+            new Notification("a", "first"),
+            new Notification("b", "second"),
+            new Notification("c", "third"));
+
+        EncodedNotifications decoded = NotificationCodec.decode(NotificationCodec.encode(notifications,
+            notification -> notification.getProperty().equals("a") ? -1 : notification.getProperty().equals("b") ? 404 : Integer.MIN_VALUE));
+
+        assertEquals(true, decoded.hasCodes());
+        assertEquals(-1, decoded.getCode(0));
+        assertEquals(404, decoded.getCode(1));
+        assertEquals(Integer.MIN_VALUE, decoded.getCode(2));
+        assertEquals("second", decoded.get(1).getMessage());
+    }
+
+    @Test
+    public void decodesFromDirectBufferSlices() {
+
+        List<Notification> notifications = new ArrayList<Notification>();
+        PropertyPath phones = PropertyPath.of("contact.phones");
+        for (int i = 0; i < 1000; i++) {
+            notifications.add(new Notification(phones.index(i).child("ddd"), "Invalid ddd"));
+        }
+        byte[] encoded = NotificationCodec.encode(notifications);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length + 3);
+        buffer.put(new byte[] { 9, 9, 9 }).put(encoded);
+        buffer.position(3);
+
+        EncodedNotifications decoded = NotificationCodec.decode(buffer);
+        assertEquals(3, buffer.position());
+        assertEquals(1000, decoded.size());
+        assertEquals("contact.phones[999].ddd", decoded.get(999).getProperty());
+
+        int flat = 0;
+        for (Notification notification : notifications) {
+            flat += notification.getProperty().getBytes(StandardCharsets.UTF_8).length + notification.getMessage().length();
+        }
+        assertTrue(encoded.length * 4 < flat);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsForeignBytes() {
+        NotificationCodec.decode("{\"notifications\":[]}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTruncatedBytes() {
+        byte[] encoded = NotificationCodec.encode(Arrays.asList(new Notification("name", "Name is empty")));
+        NotificationCodec.decode(Arrays.copyOf(encoded, encoded.length - 2));
+    }
+
+    @Test
+    public void rejectsCountsLargerThanTheInput() {
+        byte[] header = Arrays.copyOf(NotificationCodec.encode(new ArrayList<Notification>()), 4);
+
+        byte[] strings = Arrays.copyOf(header, 10);
+        System.arraycopy(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0 }, 0, strings, 4, 6);
+        assertRejected(strings, "Count 2147483647 exceeds the 1 remaining bytes");
+
+        byte[] records = Arrays.copyOf(header, 8);
+        System.arraycopy(new byte[] { 0, (byte) 0x80, 0x01, 0 }, 0, records, 4, 4);
+        assertRejected(records, "Count 128 exceeds the 1 remaining bytes");
+    }
+
+    private static void assertRejected(byte[] encoded, String message) {
+        try {
+            NotificationCodec.decode(encoded);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+}
@@ -81,4 +81,26 @@ public class ObjectValidationContractTests {
         assertEquals(1, contract.getNotifications().size());
         assertEquals(message, contract.getNotifications().get(0).getMessage());
     }
+
+    @Test
+    public void areEqualWithNull() {
+
+        Object obj = null;
+        Object obj1 = 10;
+
+        Contract wrong = new Contract()
+            .requires()
+            .areEquals(obj, obj1, "object", "Object is not equal")
+            .areNotEquals(obj, obj, "object", "Object is equal");
+
+        assertTrue(wrong.isInvalid());
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .areEquals(obj, obj, "object", "Object is not equal")
+            .areNotEquals(obj, obj1, "object", "Object is equal");
+
+        assertTrue(right.isValid());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import jflunt.validations.Contract;
+import jflunt.validations.text.PatternSet;
+
+public class PatternSetTests {
+
+    @Test
+    public void reportsWhichPatternMatched() {
+
+        PatternSet phones = PatternSet.of(
+            "^\\(\\d{2}\\) 9\\d{4}-\\d{4}$",
+            "^\\+1 \\d{3}-\\d{3}-\\d{4}$",
+            "^\\d{2,3}$");
+
+        assertEquals(0, phones.match("(21) 99713-6888"));
+        assertEquals(1, phones.match("+1 212-555-0100"));
+        assertEquals(2, phones.match("021"));
+        assertEquals(-1, phones.match("0211"));
+        assertEquals(-1, phones.match(null));
+    }
+
+    @Test
+    public void lowestIndexWinsWhenPatternsOverlap() {
+
+        PatternSet skus = new PatternSet()
+            .addLiteral("ABC-123")
+            .add("[A-Z]{3}-\\d{3}")
+            .add(".*");
+
+        assertEquals(0, skus.match("ABC-123"));
+        assertEquals(1, skus.match("XYZ-999"));
+        assertEquals(2, skus.match("anything"));
+    }
+
+    @Test
+    public void literalsAreNotInterpreted() {
+
+        PatternSet literals = PatternSet.ofLiterals("a.b", "(x)", "");
+
+        assertEquals(0, literals.match("a.b"));
+        assertEquals(-1, literals.match("axb"));
+        assertEquals(1, literals.match("(x)"));
+        assertEquals(2, literals.match(""));
+    }
+
+    @Test
+    public void agreesWithJavaRegex() {
+
+        String[] patterns = {
+            "^\\w+([-+.']\\w+)*@\\w+([-.]\\w+)*\\.\\w+([-.]\\w+)*$", "^\\d+$", "a|b|cd", "(ab)+c?", "[^a-c]{2,}",
+            "x{0}y", "(?:a|b)*?c", "[\\d\\-x]+", ".\\..", "[a-]z", "\\u00e3+", "(a*)*b", "[A-Fa-f0-9]{8}-[A-Fa-f0-9]{4}"
+        };
+        String[] inputs = {
+            "", "a", "b", "cd", "abab", "ababc", "abc", "de", "d", "y", "xy", "aabbc", "c", "12-x", "1.2", "a.",
+            "-z", "az", "bz", "ããã", "b", "aaab", "DEADbeef-00ff", "carlos@gmail.com", "o'neil+x@a-b.co", "a@b", "123", "1\n3"
+        };
+
+        for (String pattern : patterns) {
+            PatternSet set = PatternSet.of(pattern);
+            Pattern regex = Pattern.compile(pattern);
+            for (String input : inputs) {
+                assertEquals(pattern + " / " + input, regex.matcher(input).matches(), set.matches(input));
+            }
+        }
+    }
+
+    @Test
+    public void rejectsUnsupportedSyntax() {
+
+        String[] unsupported = { "(a)\\1", "(?=a)", "a++", "a**", "[a[b]]", "\\bword", "a^", "(a", "a)" };
+
+        for (String pattern : unsupported) {
+            try {
+                PatternSet.of(pattern);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            throw new AssertionError("Pattern was accepted: " + pattern);
+        }
+    }
+
+    @Test
+    public void matchsAny() {
+
+        PatternSet formats = PatternSet.of("\\d{2}", "\\d{3}");
+
+        Contract wrong = new Contract()
+            .requires()
+            .matchsAny("1", formats, "prefix", "Invalid prefix")
+            .matchsAny(null, formats, "prefix", "Invalid prefix");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .matchsAny("21", formats, "prefix", "Invalid prefix")
+            .matchsAny(new StringBuilder("021"), formats, "prefix", "Invalid prefix");
+
+        assertTrue(right.isValid());
+    }
+}
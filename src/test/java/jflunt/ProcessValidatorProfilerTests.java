@@ -0,0 +1,115 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import jflunt.instrumentation.ProcessValidatorProfiler;
+import jflunt.instrumentation.ValidatorProfile;
+import jflunt.validations.Contract;
+import jflunt.validations.ProcessValidator;
+
+public class ProcessValidatorProfilerTests {
+
+    @Test
+    public void reportsSlowestValidatorsFirst() {
+
+        ProcessValidatorProfiler profiler = new ProcessValidatorProfiler(1);
+        ProcessValidator fast = profiler.wrap(() -> true, "name", "Fast check");
+        ProcessValidator slow = profiler.wrap(this::slow, "document", "Slow check");
+
+        for (int i = 0; i < 5; i++) {
+            new Contract()
+                .requires()
+                .mustBe(fast, "name", "Fast check")
+                .mustBe(slow, "document", "Slow check");
+        }
+
+        List<ValidatorProfile> top = profiler.top(1);
+
+        assertEquals(1, top.size());
+        assertEquals("document", top.get(0).getProperty());
+        assertEquals("Slow check", top.get(0).getMessage());
+        assertEquals(5, top.get(0).getSamples());
+        assertEquals(5, top.get(0).getFailures());
+        assertTrue(top.get(0).getLatency().getMeanNanos() >= 1000000);
+        assertEquals(2, profiler.top(10).size());
+    }
+
+    @Test
+    public void samplesFractionOfCalls() {
+
+        ProcessValidatorProfiler profiler = new ProcessValidatorProfiler(0.1);
+        ProcessValidator check = profiler.wrap(() -> true, "name", "Check");
+        Contract contract = new Contract().requires();
+
+        for (int i = 0; i < 10000; i++) {
+            contract.mustBe(check, "name", "Check");
+        }
+
+        long samples = profiler.top(1).get(0).getSamples();
+
+        assertTrue(contract.isValid());
+        assertTrue(samples > 500 && samples < 1500);
+    }
+
+    @Test
+    public void resetDiscardsSamples() {
+
+        ProcessValidatorProfiler profiler = new ProcessValidatorProfiler(1);
+        profiler.wrap(() -> true, "name", "Check").run();
+
+        profiler.reset();
+
+        assertTrue(profiler.top(10).isEmpty());
+    }
+
+    @Test
+    public void keepsSamplesConsistentAcrossConcurrentResets() throws Exception {
+
+        ProcessValidatorProfiler profiler = new ProcessValidatorProfiler(1);
+        ProcessValidator failing = profiler.wrap(() -> false, "name", "Check");
+
+        Thread[] workers = new Thread[4];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(() -> {
+                for (int j = 0; j < 20000; j++) {
+                    failing.run();
+                }
+            });
+            workers[i].start();
+        }
+        for (int i = 0; i < 100; i++) {
+            profiler.reset();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        failing.run();
+
+        ValidatorProfile profile = profiler.top(1).get(0);
+        assertEquals(profile.getSamples(), profile.getFailures());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidSampleRate() {
+        new ProcessValidatorProfiler(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeLimit() {
+        new ProcessValidatorProfiler(1).top(-1);
+    }
+
+    private boolean slow() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
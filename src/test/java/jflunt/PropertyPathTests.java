@@ -0,0 +1,75 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import jflunt.notifications.Notification;
+import jflunt.notifications.PropertyPath;
+
+public class PropertyPathTests {
+
+    @Test
+    public void rendersOnDemand() {
+
+        PropertyPath lines = PropertyPath.root().child("order").child("lines");
+
+        assertEquals("order.lines[12].price", lines.index(12).child("price").toString());
+        assertEquals("order.lines", lines.toString());
+        assertEquals("name", PropertyPath.root().child("name").toString());
+        assertEquals("[3].name", PropertyPath.root().index(3).child("name").toString());
+        assertEquals("", PropertyPath.root().toString());
+    }
+
+    @Test
+    public void sharesPrefixesAndInternsSegments() {
+
+        PropertyPath lines = PropertyPath.root().child("order").child("lines");
+        PropertyPath first = lines.index(0).child("price");
+
+        assertSame(lines, first.getParent().getParent());
+        assertEquals(4, first.getDepth());
+
+        PropertyPath parsed = PropertyPath.of(new String("order.lines[0].price"));
+        PropertyPath reparsed = PropertyPath.of(new String("order.lines[1].price"));
+
+        assertSame(parsed.getSegment(), reparsed.getSegment());
+        assertSame(parsed.getParent().getParent().getSegment(), reparsed.getParent().getParent().getSegment());
+        assertEquals(first.getParent().getParent(), parsed.getParent().getParent());
+    }
+
+    @Test
+    public void parsesDottedProperties() {
+
+        PropertyPath path = PropertyPath.of("order.lines[12].price");
+
+        assertEquals("price", path.getSegment());
+        assertEquals(12, path.getParent().getIndex());
+        assertEquals(PropertyPath.root().child("order").child("lines").index(12).child("price"), path);
+        assertEquals(path.hashCode(), PropertyPath.root().child("order").child("lines").index(12).child("price").hashCode());
+        assertEquals("odd[x]", PropertyPath.of("odd[x]").toString());
+        assertEquals(true, PropertyPath.of("").isRoot());
+    }
+
+    @Test
+    public void resolvesRelativePaths() {
+
+        PropertyPath base = PropertyPath.of("contact.phones[2]");
+
+        assertEquals("contact.phones[2].ddd", base.resolve(PropertyPath.of("ddd")).toString());
+        assertEquals("contact.phones[2].numbers[0].value", base.resolve(PropertyPath.of("numbers[0].value")).toString());
+        assertSame(base, base.resolve(PropertyPath.root()));
+    }
+
+    @Test
+    public void notificationsRenderLazily() {
+
+        Notification structured = new Notification(PropertyPath.of("phones[2]").child("ddd"), "Invalid ddd");
+        Notification flat = new Notification("phones[2].ddd", "Invalid ddd");
+
+        assertEquals("phones[2].ddd", structured.getProperty());
+        assertSame(structured.getProperty(), structured.getProperty());
+        assertEquals(structured.getPath(), flat.getPath());
+    }
+}
@@ -0,0 +1,216 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import jflunt.rules.RuleCost;
+import jflunt.rules.RuleSet;
+import jflunt.specifications.CompositeSpecification;
+import jflunt.validations.Contract;
+
+public class RuleSetTests {
+
+    @Test
+    public void ordersCheapRulesFirst() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("format", "value", "Invalid format", val -> val.matches("^\\d+$")).withCost(RuleCost.EXPENSIVE)
+            .rule("length", "value", "Invalid length", val -> val.length() > 2).withCost(RuleCost.CHEAP)
+            .rule("notNull", "value", "Value is null", val -> val != null).withCost(RuleCost.TRIVIAL);
+
+        assertEquals(Arrays.asList("notNull", "length", "format"), rules.getOrder());
+    }
+
+    @Test
+    public void prerequisitesComeBeforeDependents() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("format", "value", "Invalid format", val -> val.matches("^\\d+$")).withCost(RuleCost.TRIVIAL).dependsOn("notNull")
+            .rule("notNull", "value", "Value is null", val -> val != null).withCost(RuleCost.EXPENSIVE);
+
+        assertEquals(Arrays.asList("notNull", "format"), rules.getOrder());
+    }
+
+    @Test
+    public void skipsDependentsOfFailedPrerequisites() {
+
+        AtomicInteger calls = new AtomicInteger();
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("prefixNotNull", "prefix", "Prefix is null", prefix -> prefix != null).withCost(RuleCost.TRIVIAL)
+            .rule("prefixDigits", "prefix", "Prefix must be digits", prefix -> calls.incrementAndGet() > 0 && prefix.matches("^\\d+$"))
+                .withCost(RuleCost.EXPENSIVE).dependsOn("prefixNotNull")
+            .rule("prefixLength", "prefix", "Prefix must be 2 characters", prefix -> prefix.length() == 2).dependsOn("prefixDigits");
+
+        Contract wrong = rules.validate(null);
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(1, wrong.getNotifications().size());
+        assertEquals("Prefix is null", wrong.getNotifications().get(0).getMessage());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void failFastStopsAtFirstFailure() {
+
+        Contract wrong = new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 5).withCost(RuleCost.CHEAP)
+            .rule("digits", "value", "Invalid digits", val -> val.matches("^\\d+$")).withCost(RuleCost.EXPENSIVE)
+            .failFast()
+            .validate("abc");
+
+        assertEquals(1, wrong.getNotifications().size());
+        assertEquals("Invalid length", wrong.getNotifications().get(0).getMessage());
+
+        Contract right = new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 2)
+            .failFast()
+            .validate("12345");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void validatesIntoExistingContract() {
+
+        Contract contract = new Contract()
+            .requires()
+            .isNotNull(null, "object", "Object is null");
+
+        new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 5)
+            .validate("abc", contract);
+
+        assertEquals(2, contract.getNotifications().size());
+    }
+
+    @Test
+    public void adaptiveReorderingMovesRejectingRulesFirst() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 2).withCost(RuleCost.TRIVIAL)
+            .rule("digits", "value", "Invalid digits", val -> val.matches("^\\d+$")).withCost(RuleCost.EXPENSIVE)
+            .failFast()
+            .adaptive(10);
+
+        assertEquals(Arrays.asList("length", "digits"), rules.getOrder());
+
+        for (int i = 0; i < 10; i++) {
+            rules.validate("abcdef");
+        }
+
+        assertEquals(Arrays.asList("digits", "length"), rules.getOrder());
+        assertEquals(10, rules.getStatistics("digits").getFailures());
+        assertEquals(0, rules.getStatistics("length").getFailures());
+        assertEquals(1.0, rules.getStatistics("digits").getFailureRate(), 0);
+    }
+
+    @Test
+    public void adaptiveReorderingFallsBackToCostForUnmeasuredRules() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("digits", "value", "Invalid digits", val -> val.matches("^\\d+$")).withCost(RuleCost.EXPENSIVE)
+            .rule("length", "value", "Invalid length", val -> val.length() > 2).withCost(RuleCost.TRIVIAL)
+            .failFast()
+            .adaptive(5)
+            .loadOrder(Arrays.asList("digits", "length"));
+
+        for (int i = 0; i < 5; i++) {
+            rules.validate("abcdef");
+        }
+
+        assertEquals(0, rules.getStatistics("length").getEvaluations());
+        assertEquals(Arrays.asList("length", "digits"), rules.getOrder());
+    }
+
+    @Test
+    public void loadedOrderRespectsPrerequisites() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("notNull", "value", "Value is null", val -> val != null).withCost(RuleCost.TRIVIAL)
+            .rule("digits", "value", "Invalid digits", val -> val.matches("^\\d+$")).dependsOn("notNull")
+            .rule("length", "value", "Invalid length", val -> val.length() > 2).dependsOn("notNull");
+
+        List<String> exported = new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> true)
+            .rule("digits", "value", "Invalid digits", val -> true)
+            .rule("notNull", "value", "Value is null", val -> true)
+            .getOrder();
+
+        rules.loadOrder(exported);
+
+        assertEquals(Arrays.asList("notNull", "length", "digits"), rules.getOrder());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsDuplicatedRuleNames() {
+
+        new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 5)
+            .rule("length", "value", "Invalid length", val -> val.length() > 5);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsUnknownPrerequisites() {
+
+        new RuleSet<String>()
+            .rule("length", "value", "Invalid length", val -> val.length() > 5).dependsOn("notNull")
+            .validate("abc");
+    }
+
+    @Test
+    public void rejectsCyclicPrerequisites() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("a", "value", "a", val -> true).dependsOn("b")
+            .rule("b", "value", "b", val -> true).dependsOn("a");
+
+        try {
+            rules.validate("abc");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("cycle"));
+            return;
+        }
+        throw new AssertionError("Cycle was not detected");
+    }
+
+    @Test
+    public void booleanModeMatchesValidation() {
+
+        AtomicInteger calls = new AtomicInteger();
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("notNull", "value", "Value is null", val -> val != null).withCost(RuleCost.TRIVIAL)
+            .rule("digits", "value", "Value is not numeric", val -> val.matches("^\\d*$")).dependsOn("notNull")
+            .rule("length", "value", "Value is too short", val -> calls.incrementAndGet() > 0 && val.length() > 2).dependsOn("notNull");
+
+        for (String value : Arrays.asList(null, "", "12", "123", "abc", "12345")) {
+            assertEquals(rules.validate(value).isValid(), rules.isSatisfiedBy(value));
+            assertEquals(rules.validate(value).isValid(), rules.asPredicate().test(value));
+            assertEquals(rules.validate(value).isValid(), rules.asSpecification().isSatisfiedBy(value));
+        }
+
+        calls.set(0);
+        assertEquals(false, rules.isSatisfiedBy("abc"));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void specificationModeCollectsNotifications() {
+
+        RuleSet<String> rules = new RuleSet<String>()
+            .rule("length", "value", "Value is too short", val -> val.length() > 2)
+            .rule("digits", "value", "Value is not numeric", val -> val.matches("^\\d*$"));
+
+        Contract contract = rules.asSpecification()
+            .and(CompositeSpecification.of("value", "Value is reserved", val -> !val.equals("ab")))
+            .validate("ab");
+
+        assertEquals(3, contract.getNotifications().size());
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 import jflunt.validations.Contract;
+import jflunt.validations.StringValidationContract;
+import jflunt.validations.text.Whitespace;
 
 public class StringValidationContractTests {
 
@@ -111,6 +113,18 @@ public class StringValidationContractTests {
         assertEquals(true, right.isValid());
     }
 
+    @Test
+    public void containsAndMatchsWithNull() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .contains(null, "banana", "string", "String does not contains banana")
+            .matchs(null, "^\\d+$", "string", "String does not match");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(2, wrong.getNotifications().size());
+    }
+
     @Test
     public void isEmail() {
 
@@ -146,4 +160,157 @@ public class StringValidationContractTests {
 
         assertEquals(true, right.isValid());
     }
+
+    @Test
+    public void isEmailMatchesPreviousPattern() {
+
+        String pattern = "^\\w+([-+.']\\w+)*@\\w+([-.]\\w+)*\\.\\w+([-.]\\w+)*$";
+        String[] emails = {
+            "a@b.c", "first.last@mail.example.com", "o'neil+tag@sub-domain.example.org", "a_b@c-d.e-f",
+            "@b.c", "a@b", "a@.c", "a.@b.c", "a..b@c.d", "a@b..c", "a@b.c.", "a@b-.c", "-a@b.c", "a@b@c.d",
+            "a b@c.d", "a@b.c ", "", "a", "ação@b.c", "a@b.c-", "a@b-c", "a@b-c.d"
+        };
+
+        for (String email : emails) {
+            Contract contract = new Contract().isEmail(email, "string", "Invalid E-mail");
+            assertEquals(email, email.matches(pattern), contract.isValid());
+        }
+    }
+
+    @Test
+    public void charSequenceValues() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .isNotNullOrEmpty(new StringBuilder("  \t"), "string", "String is empty")
+            .hasMinLen(new StringBuilder("abc"), 5, "string", "String len is less than permited")
+            .hasMaxLen(new StringBuilder("abcdef"), 5, "string", "String len is more than permited")
+            .hasLen(new StringBuilder("abc"), 5, "string", "String len is not 5")
+            .isDigit(new StringBuilder("12a"), "string", "String is not a number")
+            .isEmail(new StringBuilder("wrongemail"), "string", "Invalid E-mail")
+            .contains(new StringBuilder("some text here"), "banana", "string", "String does not contains banana");
+
+        assertEquals(7, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isNotNullOrEmpty(new StringBuilder(" a "), "string", "String is empty")
+            .hasMinLen(new StringBuilder("abcde"), 5, "string", "String len is less than permited")
+            .hasMaxLen(new StringBuilder("abcde"), 5, "string", "String len is more than permited")
+            .hasLen(new StringBuilder("abcde"), 5, "string", "String len is not 5")
+            .isDigit(new StringBuilder("0123456789"), "string", "String is not a number")
+            .isEmail(new StringBuilder("carlosbritojun@gmail.com"), "string", "Invalid E-mail")
+            .contains(new StringBuilder("some banana here"), new StringBuilder("banana"), "string", "String does not contains banana");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void blankChecksMatchTrim() {
+
+        String[] values = { "", " ", "\t\n", " a ", "\u0000", "\u2003", "  padded value  ", "\u00a0" };
+
+        for (String value : values) {
+            boolean blank = value.trim().length() == 0;
+            Contract contract = new Contract()
+                .isNotNullOrEmpty(value, "string", "String is empty")
+                .isNullOrEmpty(value, "string", "String is not empty");
+
+            assertEquals(value, 1, contract.getNotifications().size());
+            assertEquals(value, blank ? "String is empty" : "String is not empty", contract.getNotifications().get(0).getMessage());
+        }
+    }
+
+    @Test
+    public void unicodeWhitespace() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .withWhitespace(Whitespace.UNICODE)
+            .isNotNullOrEmpty("\u2003\u3000 ", "string", "String is empty")
+            .hasMinLen("\u2003\u2003\u2003", 1, "string", "String len is less than permited");
+
+        assertEquals(2, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .withWhitespace(Whitespace.UNICODE)
+            .isNotNullOrEmpty("\u0000", "string", "String is empty")
+            .isNullOrEmpty("\u2003", "string", "String is not empty");
+
+        assertEquals(true, right.isValid());
+
+        Contract trim = new Contract()
+            .requires()
+            .isNotNullOrEmpty("\u2003", "string", "String is empty");
+
+        assertEquals(true, trim.isValid());
+    }
+
+    @Test
+    public void isIntegerInRange() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .isIntegerInRange("11", 1, 10, "quantity", "Quantity is out of range")
+            .isIntegerInRange("-", 1, 10, "quantity", "Quantity is not a number")
+            .isIntegerInRange("1.0", 1, 10, "quantity", "Quantity is not an integer")
+            .isIntegerInRange(" 5", 1, 10, "quantity", "Quantity is not an integer")
+            .isIntegerInRange("9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE, "quantity", "Quantity overflows")
+            .isIntegerInRange(null, 1, 10, "quantity", "Quantity is null");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(6, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isIntegerInRange("10", 1, 10, "quantity", "Quantity is out of range")
+            .isIntegerInRange("+1", 1, 10, "quantity", "Quantity is out of range")
+            .isIntegerInRange("-9223372036854775808", Long.MIN_VALUE, 0, "quantity", "Quantity is out of range")
+            .isIntegerInRange("9223372036854775807", 0, Long.MAX_VALUE, "quantity", "Quantity is out of range")
+            .isIntegerInRange(new StringBuilder("007"), 1, 10, "quantity", "Quantity is out of range");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void isDecimal() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .isDecimal("1234.5", 5, 2, "price", "Price has too many integer digits")
+            .isDecimal("12.345", 5, 2, "price", "Price has too many decimal places")
+            .isDecimal("1.2.3", 5, 2, "price", "Price is not a number")
+            .isDecimal(".", 5, 2, "price", "Price is not a number")
+            .isDecimal("1e3", 5, 2, "price", "Price is not a number")
+            .isDecimal(null, 5, 2, "price", "Price is null");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(6, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isDecimal("123.45", 5, 2, "price", "Price is invalid")
+            .isDecimal("-0.5", 5, 2, "price", "Price is invalid")
+            .isDecimal("000123", 5, 2, "price", "Price is invalid")
+            .isDecimal(".5", 5, 2, "price", "Price is invalid")
+            .isDecimal("42", 2, 0, "price", "Price is invalid");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void keepsStringSignatures() throws NoSuchMethodException {
+
+        Class<StringValidationContract> type = StringValidationContract.class;
+
+        assertEquals(Contract.class, type.getMethod("isNotNullOrEmpty", String.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("isNullOrEmpty", String.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("hasMinLen", String.class, int.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("hasMaxLen", String.class, int.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("hasLen", String.class, int.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("contains", String.class, String.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("isEmail", String.class, String.class, String.class).getReturnType());
+        assertEquals(Contract.class, type.getMethod("isDigit", String.class, String.class, String.class).getReturnType());
+    }
 }
@@ -2,11 +2,15 @@ package jflunt;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.Test;
 
 import jflunt.validations.Contract;
+import jflunt.validations.membership.UuidSet;
+import jflunt.validations.text.UuidStrings;
 
 public class UUIDValidationContractTests {
 
@@ -47,4 +51,109 @@ public class UUIDValidationContractTests {
 
         assertEquals(true, right.isValid());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void isUUID() {
+
+        Contract wrong = new Contract()
+            .requires()
+            .isUUID("not-a-uuid", "id", "Id is not a UUID")
+            .isUUID("123e4567-e89b-12d3-a456-42661417400", "id", "Id is too short")
+            .isUUID("123e4567-e89b-12d3-a456_426614174000", "id", "Id has a bad separator")
+            .isUUID("123e4567-e89b-12d3-a456-42661417400g", "id", "Id has a bad digit")
+            .isUUID(null, "id", "Id is null")
+            .isUUID("123e4567-e89b-12d3-a456-426614174000", 4, "id", "Id is not version 4")
+            .isUUID("123e4567-e89b-42d3-c456-426614174000", 4, "id", "Id has the wrong variant");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(7, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isUUID("123e4567-e89b-12d3-a456-426614174000", "id", "Id is not a UUID")
+            .isUUID("123E4567-E89B-12D3-A456-426614174000", "id", "Id is not a UUID")
+            .isUUID(UUID.randomUUID().toString(), 4, "id", "Id is not version 4")
+            .isUUID(new StringBuilder(UUID.nameUUIDFromBytes(new byte[] { 1 }).toString()), 3, "id", "Id is not version 3");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void parsesLikeFromString() {
+
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+            String text = i % 2 == 0 ? uuid.toString() : uuid.toString().toUpperCase();
+
+            assertEquals(true, UuidStrings.isUuid(text));
+            assertEquals(uuid.getMostSignificantBits(), UuidStrings.mostSigBits(text));
+            assertEquals(uuid.getLeastSignificantBits(), UuidStrings.leastSigBits(text));
+        }
+    }
+
+    @Test
+    public void comparesBits() {
+
+        UUID uuid = UUID.randomUUID();
+        long most = uuid.getMostSignificantBits();
+        long least = uuid.getLeastSignificantBits();
+
+        Contract wrong = new Contract()
+            .requires()
+            .areEquals(most, least + 1, uuid, "id", "UUID's are not equal")
+            .areNotEquals(most, least, uuid, "id", "UUID's are equal")
+            .areEqualsUUID(UUID.randomUUID().toString(), uuid, "id", "UUID's are not equal")
+            .areEqualsUUID("garbage", uuid, "id", "Id is not a UUID")
+            .areNotEqualsUUID(uuid.toString(), uuid, "id", "UUID's are equal")
+            .isInUUID("garbage", UuidSet.of(Arrays.asList(uuid)), "id", "Id is not allowed");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(6, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .areEquals(most, least, uuid, "id", "UUID's are not equal")
+            .areNotEquals(most, least + 1, uuid, "id", "UUID's are equal")
+            .areEqualsUUID(uuid.toString().toUpperCase(), uuid, "id", "UUID's are not equal")
+            .areNotEqualsUUID(UUID.randomUUID().toString(), uuid, "id", "UUID's are equal")
+            .isInUUID(uuid.toString(), UuidSet.of(Arrays.asList(uuid)), "id", "Id is not allowed");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void areNotEqualsBitsToNull() {
+
+        UUID uuid = UUID.randomUUID();
+
+        Contract right = new Contract()
+            .requires()
+            .areNotEquals(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null, "id", "UUID's are equal")
+            .areNotEqualsUUID(uuid.toString(), null, "id", "UUID's are equal");
+
+        assertEquals(true, right.isValid());
+    }
+
+    @Test
+    public void isNotInUUID() {
+
+        UUID blocked = UUID.randomUUID();
+        UuidSet set = UuidSet.of(Arrays.asList(blocked));
+
+        Contract wrong = new Contract()
+            .requires()
+            .isNotInUUID(blocked.toString(), set, "id", "Id is blocked")
+            .isNotInUUID(blocked.toString().toUpperCase(), set, "id", "Id is blocked")
+            .isNotInUUID("garbage", set, "id", "Id is not a UUID")
+            .isNotInUUID(null, set, "id", "Id is null");
+
+        assertEquals(false, wrong.isValid());
+        assertEquals(4, wrong.getNotifications().size());
+
+        Contract right = new Contract()
+            .requires()
+            .isNotInUUID(UUID.randomUUID().toString(), set, "id", "Id is blocked");
+
+        assertEquals(true, right.isValid());
+    }
+}
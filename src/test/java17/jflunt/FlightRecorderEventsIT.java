@@ -0,0 +1,70 @@
+package jflunt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import jflunt.instrumentation.FlightRecorderEvents;
+import jflunt.validations.Contract;
+
+public class FlightRecorderEventsIT {
+
+    @After
+    public void restoreThreshold() {
+        FlightRecorderEvents.setLargeMergeThreshold(100);
+    }
+
+    @Test
+    public void loadsTheMultiReleaseSection() {
+        assertEquals(true, FlightRecorderEvents.isAvailable());
+    }
+
+    @Test
+    public void recordsContractLifecycleEvents() throws Exception {
+
+        FlightRecorderEvents.setLargeMergeThreshold(2);
+
+        Map<String, RecordedEvent> events = new ConcurrentHashMap<String, RecordedEvent>();
+        CountDownLatch received = new CountDownLatch(3);
+
+        try (RecordingStream stream = new RecordingStream()) {
+            for (String name : new String[] { "jflunt.ContractCreated", "jflunt.ContractJoin", "jflunt.NotificationMerge" }) {
+                stream.enable(name);
+                stream.onEvent(name, event -> {
+                    if (events.putIfAbsent(name, event) == null)
+                        received.countDown();
+                });
+            }
+            stream.startAsync();
+
+            Contract name = new Contract()
+                .requires()
+                .hasMinLen("ab", 3, "name", "Name is too short")
+                .isEmail("nope", "email", "Invalid email");
+
+            new Contract()
+                .requires()
+                .join(new Contract(), name);
+
+            assertTrue(received.await(30, TimeUnit.SECONDS));
+        }
+
+        RecordedEvent join = events.get("jflunt.ContractJoin");
+        assertEquals("name", join.getString("property"));
+        assertEquals(2, join.getInt("items"));
+        assertEquals(2, join.getInt("notifications"));
+
+        RecordedEvent merge = events.get("jflunt.NotificationMerge");
+        assertEquals("name", merge.getString("property"));
+        assertEquals(2, merge.getInt("notifications"));
+    }
+}
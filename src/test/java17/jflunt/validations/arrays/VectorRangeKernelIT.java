@@ -0,0 +1,113 @@
+package jflunt.validations.arrays;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jflunt.validations.Contract;
+
+public class VectorRangeKernelIT {
+
+    private final RangeKernel scalar = new ScalarRangeKernel();
+    private final Random random = new Random(42);
+
+    @Test
+    public void loadsTheVectorKernel() {
+        assertEquals("VectorRangeKernel", RangeKernels.KERNEL.getClass().getSimpleName());
+        assertEquals(true, ColumnRanges.isVectorized());
+    }
+
+    @Test
+    public void matchesScalarKernelForInts() {
+        for (int length = 0; length < 300; length++) {
+            int[] vals = new int[length];
+            for (int i = 0; i < length; i++) {
+                vals[i] = this.random.nextInt(10) == 0 ? extremeInt() : this.random.nextInt(200) - 50;
+            }
+            for (int start = 0; start <= length; start++) {
+                assertEquals(this.scalar.nextOutside(vals, start, 0, 100), RangeKernels.KERNEL.nextOutside(vals, start, 0, 100));
+            }
+        }
+    }
+
+    @Test
+    public void matchesScalarKernelForLongs() {
+        for (int length = 0; length < 300; length++) {
+            long[] vals = new long[length];
+            for (int i = 0; i < length; i++) {
+                vals[i] = this.random.nextInt(10) == 0 ? extremeLong() : this.random.nextInt(200) - 50L;
+            }
+            for (int start = 0; start <= length; start++) {
+                assertEquals(this.scalar.nextOutside(vals, start, 0L, 100L), RangeKernels.KERNEL.nextOutside(vals, start, 0L, 100L));
+            }
+        }
+    }
+
+    @Test
+    public void matchesScalarKernelForDoubles() {
+        for (int length = 0; length < 300; length++) {
+            double[] vals = new double[length];
+            for (int i = 0; i < length; i++) {
+                vals[i] = this.random.nextInt(10) == 0 ? extremeDouble() : this.random.nextDouble() * 200 - 50;
+            }
+            for (int start = 0; start <= length; start++) {
+                assertEquals(this.scalar.nextOutside(vals, start, 0.0, 100.0), RangeKernels.KERNEL.nextOutside(vals, start, 0.0, 100.0));
+            }
+        }
+    }
+
+    @Test
+    public void matchesScalarKernelForDoubleEdgeBounds() {
+        double[] bounds = { Double.NaN, Double.NEGATIVE_INFINITY, -0.0, 0.0, 100.0, Double.POSITIVE_INFINITY };
+        for (int length = 0; length < 40; length++) {
+            double[] vals = new double[length];
+            for (int i = 0; i < length; i++) {
+                vals[i] = this.random.nextInt(3) == 0 ? extremeDouble() : this.random.nextDouble() * 200 - 50;
+            }
+            for (double from : bounds) {
+                for (double to : bounds) {
+                    for (int start = 0; start <= length; start++) {
+                        assertEquals(this.scalar.nextOutside(vals, start, from, to), RangeKernels.KERNEL.nextOutside(vals, start, from, to));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void exclusiveBoundsMatchContractRules() {
+        double[] vals = new double[67];
+        for (int i = 0; i < vals.length; i++) {
+            vals[i] = extremeDouble();
+        }
+        for (double comparer : new double[] { Double.NaN, Double.NEGATIVE_INFINITY, -0.0, 0.0, 100.0, Double.POSITIVE_INFINITY }) {
+            int notGreater = -1;
+            int notLower = -1;
+            for (int i = vals.length - 1; i >= 0; i--) {
+                if (new Contract().requires().isGreaterThan(Double.valueOf(vals[i]), Double.valueOf(comparer), "val", "Too small").isInvalid())
+                    notGreater = i;
+                if (new Contract().requires().isLowerThan(Double.valueOf(vals[i]), Double.valueOf(comparer), "val", "Too large").isInvalid())
+                    notLower = i;
+            }
+            assertEquals(notGreater, ColumnRanges.nextNotGreaterThan(vals, 0, comparer));
+            assertEquals(notLower, ColumnRanges.nextNotLowerThan(vals, 0, comparer));
+        }
+    }
+
+    private int extremeInt() {
+        int[] values = { Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 100, -1, 101 };
+        return values[this.random.nextInt(values.length)];
+    }
+
+    private long extremeLong() {
+        long[] values = { Long.MIN_VALUE, Long.MAX_VALUE, 0L, 100L, -1L, 101L };
+        return values[this.random.nextInt(values.length)];
+    }
+
+    private double extremeDouble() {
+        double[] values = { Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0, 100.0, Math.nextUp(100.0) };
+        return values[this.random.nextInt(values.length)];
+    }
+}